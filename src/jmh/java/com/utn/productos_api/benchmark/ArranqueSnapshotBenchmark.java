@@ -0,0 +1,82 @@
+package com.utn.productos_api.benchmark;
+
+import com.utn.productos_api.snapshot.SnapshotCatalogo;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ArranqueSnapshotBenchmark {
+
+  private static final int FILAS = 1_000_000;
+
+  @Param({"snapshot", "archivo"})
+  private String modo;
+
+  private Path directorio;
+  private Path snapshot;
+  private ConfigurableApplicationContext contexto;
+
+  @Setup(Level.Trial)
+  public void preparar() throws IOException {
+    directorio = Files.createTempDirectory("arranque-snapshot");
+    snapshot = directorio.resolve("productos.csv");
+
+    ConfigurableApplicationContext origen = iniciar("origen", false);
+    try {
+      ContextoBenchmark.poblar(origen, FILAS);
+      origen.getBean(SnapshotCatalogo.class).exportar();
+    } finally {
+      origen.close();
+    }
+  }
+
+  @Benchmark
+  public long arrancar() {
+    String base = modo.equals("snapshot") ? "vacia-" + UUID.randomUUID() : "origen";
+    contexto = iniciar(base, modo.equals("snapshot"));
+    return contexto.getBean(JdbcTemplate.class).queryForObject("select count(*) from producto", Long.class);
+  }
+
+  @TearDown(Level.Invocation)
+  public void detener() {
+    if (contexto != null) {
+      contexto.close();
+      contexto = null;
+    }
+  }
+
+  private ConfigurableApplicationContext iniciar(String base, boolean importar) {
+    Map<String, Object> propiedades = new HashMap<>();
+    propiedades.put("spring.datasource.url",
+        "jdbc:h2:file:" + directorio.resolve(base).toAbsolutePath() + ";LOCK_TIMEOUT=10000");
+    propiedades.put("productos.snapshot.archivo", snapshot.toString());
+    propiedades.put("productos.snapshot.importar-al-iniciar", String.valueOf(importar));
+    propiedades.put("productos.cache.enabled", "false");
+    return ContextoBenchmark.iniciar(propiedades, "persistente");
+  }
+}
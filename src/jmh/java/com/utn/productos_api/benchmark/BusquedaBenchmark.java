@@ -0,0 +1,65 @@
+package com.utn.productos_api.benchmark;
+
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.search.IndiceBusquedaProductos;
+import com.utn.productos_api.search.ResultadoBusqueda;
+import com.utn.productos_api.service.ProductoService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class BusquedaBenchmark {
+
+  @Param({"1000000"})
+  private int filas;
+
+  @Param({"producto 123457", "12345", "98765", "numro 4242"})
+  private String consulta;
+
+  private ConfigurableApplicationContext contexto;
+  private IndiceBusquedaProductos indice;
+  private ProductoService productoService;
+
+  @Setup
+  public void iniciar() {
+    contexto = ContextoBenchmark.iniciar(Map.of("productos.cache.enabled", "false"));
+    ContextoBenchmark.poblar(contexto, filas);
+    indice = contexto.getBean(IndiceBusquedaProductos.class);
+    indice.reconstruir();
+    productoService = contexto.getBean(ProductoService.class);
+  }
+
+  @TearDown
+  public void detener() {
+    contexto.close();
+  }
+
+  @Benchmark
+  public List<ResultadoBusqueda> consultarIndice() {
+    return indice.buscar(consulta, 20);
+  }
+
+  @Benchmark
+  public List<ProductoResponseDTO> buscarProductos() {
+    return productoService.buscar(consulta, 20);
+  }
+}
@@ -0,0 +1,82 @@
+package com.utn.productos_api.benchmark;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+final class CapturaConsultas implements BeanPostProcessor {
+
+  private final ThreadLocal<List<Consulta>> capturadas = new ThreadLocal<>();
+
+  record Consulta(String sql, Object[] parametros) {
+  }
+
+  List<Consulta> capturar(Runnable accion) {
+    List<Consulta> consultas = new ArrayList<>();
+    capturadas.set(consultas);
+    try {
+      accion.run();
+    } finally {
+      capturadas.remove();
+    }
+    return consultas;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String nombre) {
+    if (!(bean instanceof DataSource dataSource)) {
+      return bean;
+    }
+    return new DelegatingDataSource(dataSource) {
+      @Override
+      public Connection getConnection() throws SQLException {
+        return envolverConexion(super.getConnection());
+      }
+    };
+  }
+
+  private Connection envolverConexion(Connection conexion) {
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+        (proxy, metodo, args) -> {
+          Object resultado = invocar(conexion, metodo, args);
+          if (resultado instanceof PreparedStatement sentencia && metodo.getName().equals("prepareStatement")) {
+            return envolverSentencia(sentencia, (String) args[0]);
+          }
+          return resultado;
+        });
+  }
+
+  private PreparedStatement envolverSentencia(PreparedStatement sentencia, String sql) {
+    Map<Integer, Object> parametros = new TreeMap<>();
+    return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[]{PreparedStatement.class},
+        (proxy, metodo, args) -> {
+          if (metodo.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer indice) {
+            parametros.put(indice, args[1]);
+          }
+          List<Consulta> consultas = capturadas.get();
+          if (consultas != null && metodo.getName().equals("executeQuery") && (args == null || args.length == 0)) {
+            consultas.add(new Consulta(sql, parametros.values().toArray()));
+          }
+          return invocar(sentencia, metodo, args);
+        });
+  }
+
+  private static Object invocar(Object destino, Method metodo, Object[] args) throws Throwable {
+    try {
+      return metodo.invoke(destino, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
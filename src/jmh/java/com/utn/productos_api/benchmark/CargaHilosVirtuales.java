@@ -0,0 +1,153 @@
+package com.utn.productos_api.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public class CargaHilosVirtuales {
+
+  private static final int FILAS = 20_000;
+  private static final int[] CONCURRENCIAS = {16, 64, 256, 1024};
+  private static final Duration DURACION = Duration.ofSeconds(15);
+  private static final Duration CALENTAMIENTO = Duration.ofSeconds(5);
+  private static final String[] CATEGORIAS = {"ELECTRONICA", "ROPA", "ALIMENTOS", "HOGAR", "DEPORTES"};
+
+  public static void main(String[] args) throws Exception {
+    List<String> resultados = new ArrayList<>();
+    for (boolean virtuales : new boolean[]{false, true}) {
+      String modo = virtuales ? "virtual" : "plataforma";
+      ConfigurableApplicationContext contexto = ContextoBenchmark.iniciarServidor(
+          Map.of("productos.cache.enabled", "false"), virtuales ? new String[]{"virtual"} : new String[0]);
+      try {
+        ContextoBenchmark.poblar(contexto, FILAS);
+        String base = "http://localhost:" + ContextoBenchmark.puerto(contexto) + "/api/productos";
+
+        medir(base, CONCURRENCIAS[0], CALENTAMIENTO);
+        for (int concurrencia : CONCURRENCIAS) {
+          Resultado resultado = medir(base, concurrencia, DURACION);
+          System.out.printf(Locale.ROOT, "%-10s concurrencia=%5d  req/s=%10.1f  p50=%8.2fms  p99=%8.2fms  errores=%d%n",
+              modo, concurrencia, resultado.throughput(), resultado.p50Ms(), resultado.p99Ms(), resultado.errores());
+          resultados.add(resultado.json(modo, concurrencia));
+        }
+      } finally {
+        contexto.close();
+      }
+    }
+
+    Path salida = Path.of("target", "carga-hilos-virtuales.json");
+    Files.createDirectories(salida.getParent());
+    Files.writeString(salida, "[\n  " + String.join(",\n  ", resultados) + "\n]\n");
+    System.out.println("Resultados escritos en " + salida.toAbsolutePath());
+  }
+
+  private static Resultado medir(String base, int concurrencia, Duration duracion) throws Exception {
+    HttpClient cliente = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    long fin = System.nanoTime() + duracion.toNanos();
+    AtomicLong errores = new AtomicLong();
+    List<Future<long[]>> clientes = new ArrayList<>(concurrencia);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrencia; i++) {
+        clientes.add(executor.submit(() -> ejecutarCliente(cliente, base, fin, errores)));
+      }
+
+      long[] latencias = new long[0];
+      for (Future<long[]> futuro : clientes) {
+        long[] propias = futuro.get();
+        long[] combinadas = Arrays.copyOf(latencias, latencias.length + propias.length);
+        System.arraycopy(propias, 0, combinadas, latencias.length, propias.length);
+        latencias = combinadas;
+      }
+      Arrays.sort(latencias);
+      return new Resultado(latencias, duracion, errores.get());
+    }
+  }
+
+  private static long[] ejecutarCliente(HttpClient cliente, String base, long fin, AtomicLong errores) {
+    long[] latencias = new long[1024];
+    int cantidad = 0;
+    while (System.nanoTime() < fin) {
+      HttpRequest request = HttpRequest.newBuilder(URI.create(siguienteUrl(base)))
+          .timeout(Duration.ofSeconds(30))
+          .GET()
+          .build();
+      long inicio = System.nanoTime();
+      try {
+        HttpResponse<Void> respuesta = cliente.send(request, HttpResponse.BodyHandlers.discarding());
+        if (respuesta.statusCode() != 200) {
+          errores.incrementAndGet();
+          continue;
+        }
+      } catch (IOException e) {
+        errores.incrementAndGet();
+        continue;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+
+      if (cantidad == latencias.length) {
+        latencias = Arrays.copyOf(latencias, cantidad * 2);
+      }
+      latencias[cantidad++] = System.nanoTime() - inicio;
+    }
+    return Arrays.copyOf(latencias, cantidad);
+  }
+
+  private static String siguienteUrl(String base) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return switch (random.nextInt(3)) {
+      case 0 -> base + "/" + (1 + random.nextInt(FILAS));
+      case 1 -> base + "/categoria/" + CATEGORIAS[random.nextInt(CATEGORIAS.length)];
+      default -> base + "?limite=50";
+    };
+  }
+
+  private record Resultado(long[] latencias, Duration duracion, long errores) {
+
+    double throughput() {
+      return latencias.length / (duracion.toMillis() / 1000.0);
+    }
+
+    double p50Ms() {
+      return percentil(0.50);
+    }
+
+    double p99Ms() {
+      return percentil(0.99);
+    }
+
+    private double percentil(double percentil) {
+      if (latencias.length == 0) {
+        return 0;
+      }
+      int indice = (int) Math.ceil(percentil * latencias.length) - 1;
+      return latencias[Math.max(indice, 0)] / 1_000_000.0;
+    }
+
+    String json(String modo, int concurrencia) {
+      return String.format(Locale.ROOT,
+          "{\"modo\":\"%s\",\"concurrencia\":%d,\"requestsPorSegundo\":%.1f,\"p50Ms\":%.3f,\"p99Ms\":%.3f,\"errores\":%d}",
+          modo, concurrencia, throughput(), p50Ms(), p99Ms(), errores);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.utn.productos_api.benchmark;
+
+import com.utn.productos_api.catalogo.CatalogoEnMemoria;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.model.Producto;
+import com.utn.productos_api.repository.ProductoRepository;
+import com.utn.productos_api.service.ProductoService;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-XX:+UseG1GC"})
+public class CatalogoMemoriaBenchmark {
+
+  private static final int FILAS = 1_000_000;
+  private static final Categoria[] CATEGORIAS = Categoria.values();
+
+  @Param({"jpa", "columnar"})
+  private String modo;
+
+  private ConfigurableApplicationContext contexto;
+  private ProductoService productoService;
+  private List<Producto> entidades;
+  private long pausasInicialesMs;
+  private long coleccionesIniciales;
+
+  @Setup(Level.Trial)
+  public void preparar() {
+    Map<String, Object> propiedades = new HashMap<>();
+    propiedades.put("productos.cache.enabled", "false");
+    propiedades.put("productos.catalogo-memoria.enabled", String.valueOf(modo.equals("columnar")));
+    contexto = ContextoBenchmark.iniciar(propiedades);
+    ContextoBenchmark.poblar(contexto, FILAS);
+    productoService = contexto.getBean(ProductoService.class);
+
+    long antes = heapUsado();
+    if (modo.equals("columnar")) {
+      contexto.getBean(CatalogoEnMemoria.class).reconstruir();
+    } else {
+      entidades = contexto.getBean(ProductoRepository.class).findAll();
+    }
+    System.out.printf("%n%s, %d productos: %.1f MB retenidos en el heap%n",
+        modo, FILAS, (heapUsado() - antes) / (1024.0 * 1024.0));
+
+    pausasInicialesMs = pausasGcMs();
+    coleccionesIniciales = coleccionesGc();
+  }
+
+  @TearDown(Level.Trial)
+  public void detener() {
+    System.out.printf("%n%s: %d recolecciones, %d ms en pausas de GC durante la medición%n",
+        modo, coleccionesGc() - coleccionesIniciales, pausasGcMs() - pausasInicialesMs);
+    entidades = null;
+    contexto.close();
+  }
+
+  @Benchmark
+  public ProductoResponseDTO obtenerPorId() {
+    return productoService.obtenerPorId(ThreadLocalRandom.current().nextLong(1, FILAS + 1));
+  }
+
+  @Benchmark
+  public List<ProductoResponseDTO> obtenerPorCategoria() {
+    return productoService.obtenerPorCategoria(CATEGORIAS[ThreadLocalRandom.current().nextInt(CATEGORIAS.length)]);
+  }
+
+  private static long heapUsado() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private static long pausasGcMs() {
+    return ManagementFactory.getGarbageCollectorMXBeans().stream()
+        .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+        .sum();
+  }
+
+  private static long coleccionesGc() {
+    return ManagementFactory.getGarbageCollectorMXBeans().stream()
+        .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+        .sum();
+  }
+}
@@ -0,0 +1,112 @@
+package com.utn.productos_api.benchmark;
+
+import com.utn.productos_api.ProductosApiApplication;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.model.Producto;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+final class ContextoBenchmark {
+
+  private static final Categoria[] CATEGORIAS = Categoria.values();
+  private static final int TAMANIO_LOTE = 5_000;
+
+  private ContextoBenchmark() {
+  }
+
+  static ConfigurableApplicationContext iniciar(Map<String, Object> propiedades, String... perfiles) {
+    return iniciar(WebApplicationType.NONE, propiedades, List.of(), perfiles);
+  }
+
+  static ConfigurableApplicationContext iniciar(Map<String, Object> propiedades, BeanPostProcessor procesador) {
+    return iniciar(WebApplicationType.NONE, propiedades,
+        List.of(contexto -> contexto.getBeanFactory().addBeanPostProcessor(procesador)));
+  }
+
+  static ConfigurableApplicationContext iniciarServidor(Map<String, Object> propiedades, String... perfiles) {
+    Map<String, Object> conPuerto = new HashMap<>(propiedades);
+    conPuerto.put("server.port", "0");
+    return iniciar(WebApplicationType.SERVLET, conPuerto, List.of(), perfiles);
+  }
+
+  static int puerto(ConfigurableApplicationContext contexto) {
+    return Integer.parseInt(contexto.getEnvironment().getProperty("local.server.port"));
+  }
+
+  private static ConfigurableApplicationContext iniciar(WebApplicationType tipo, Map<String, Object> propiedades,
+      List<ApplicationContextInitializer<ConfigurableApplicationContext>> inicializadores, String... perfiles) {
+    Map<String, Object> base = new HashMap<>(Map.of(
+        "spring.datasource.url", "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";LOCK_TIMEOUT=10000",
+        "spring.jpa.show-sql", "false",
+        "spring.jpa.properties.hibernate.format_sql", "false",
+        "logging.level.org.hibernate.SQL", "WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind", "WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN",
+        "spring.main.banner-mode", "off",
+        "productos.limites.enabled", "false"
+    ));
+    base.putAll(propiedades);
+
+    String[] argumentos = base.entrySet().stream()
+        .map(propiedad -> "--" + propiedad.getKey() + "=" + propiedad.getValue())
+        .toArray(String[]::new);
+
+    return new SpringApplicationBuilder(ProductosApiApplication.class)
+        .web(tipo)
+        .initializers(inicializadores.toArray(ApplicationContextInitializer[]::new))
+        .profiles(perfiles)
+        .run(argumentos);
+  }
+
+  static void poblar(ConfigurableApplicationContext contexto, int filas) {
+    JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+    TransactionTemplate transactionTemplate =
+        new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class));
+    Timestamp ahora = Timestamp.from(Instant.now());
+    List<Object[]> lote = new ArrayList<>(TAMANIO_LOTE);
+    for (int i = 1; i <= filas; i++) {
+      Producto producto = producto(i);
+      lote.add(new Object[]{producto.getId(), producto.getNombre(), producto.getDescripcion(),
+          producto.getPrecio(), producto.getStock(), producto.getCategoria().name(), 0L, ahora});
+      if (lote.size() == TAMANIO_LOTE || i == filas) {
+        transactionTemplate.executeWithoutResult(estado -> jdbcTemplate.batchUpdate(
+            "insert into producto (id, nombre, descripcion, precio, stock, categoria, version, ultima_modificacion) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?)",
+            lote));
+        lote.clear();
+      }
+    }
+  }
+
+  static List<Producto> productos(int filas) {
+    List<Producto> productos = new ArrayList<>(filas);
+    for (int i = 1; i <= filas; i++) {
+      productos.add(producto(i));
+    }
+    return productos;
+  }
+
+  static Producto producto(long id) {
+    return Producto.builder()
+        .id(id)
+        .nombre("Producto " + id)
+        .descripcion("Descripción de prueba del producto número " + id)
+        .precio(100.0 + (id % 10_000))
+        .stock((int) (id % 500))
+        .categoria(CATEGORIAS[(int) (id % CATEGORIAS.length)])
+        .build();
+  }
+}
@@ -0,0 +1,53 @@
+package com.utn.productos_api.benchmark;
+
+import com.utn.productos_api.exceptions.ExceptionManagerService;
+import com.utn.productos_api.exceptions.ProductoNoEncontradoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionManagerBenchmark {
+
+  private ExceptionManagerService exceptionManagerService;
+  private MockHttpServletRequest request;
+  private ProductoNoEncontradoException excepcion;
+
+  @Setup
+  public void preparar() {
+    exceptionManagerService = new ExceptionManagerService(new SimpleMeterRegistry());
+    request = new MockHttpServletRequest("GET", "/api/productos/999");
+    excepcion = new ProductoNoEncontradoException("No existe el producto con el id: 999");
+  }
+
+  @Benchmark
+  public ResponseEntity<Map<String, Object>> armarRespuestaDeError() {
+    return exceptionManagerService.handlerNotFoundException(excepcion, request);
+  }
+
+  @Benchmark
+  public ResponseEntity<Map<String, Object>> lanzarYManejarExcepcion() {
+    try {
+      throw new ProductoNoEncontradoException("No existe el producto con el id: 999");
+    } catch (ProductoNoEncontradoException e) {
+      return exceptionManagerService.handlerNotFoundException(e, request);
+    }
+  }
+}
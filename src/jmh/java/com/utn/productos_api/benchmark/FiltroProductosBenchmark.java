@@ -0,0 +1,115 @@
+package com.utn.productos_api.benchmark;
+
+import com.utn.productos_api.dto.FiltroProductosDTO;
+import com.utn.productos_api.dto.OrdenProducto;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.service.ProductoService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FiltroProductosBenchmark {
+
+  private static final Pattern INDICE_DEL_PLAN = Pattern.compile("/\\*\\s*PUBLIC\\.([A-Za-z0-9_.]+)");
+
+  @Param({"1000000"})
+  private int filas;
+
+  private ConfigurableApplicationContext contexto;
+  private ProductoService productoService;
+  private FiltroProductosDTO rangoDePrecios;
+  private FiltroProductosDTO categoriaPorId;
+  private FiltroProductosDTO prefijoDeNombre;
+
+  @Setup
+  public void iniciar() {
+    CapturaConsultas captura = new CapturaConsultas();
+    contexto = ContextoBenchmark.iniciar(Map.of("productos.cache.enabled", "false"), captura);
+    ContextoBenchmark.poblar(contexto, filas);
+    productoService = contexto.getBean(ProductoService.class);
+
+    rangoDePrecios = FiltroProductosDTO.builder()
+        .categoria(Categoria.ELECTRONICA)
+        .precioMinimo(1000.0)
+        .precioMaximo(1100.0)
+        .conStock(true)
+        .ordenarPor(OrdenProducto.PRECIO)
+        .limite(50)
+        .build();
+    categoriaPorId = FiltroProductosDTO.builder()
+        .categoria(Categoria.ELECTRONICA)
+        .direccion(Sort.Direction.ASC)
+        .limite(50)
+        .build();
+    prefijoDeNombre = FiltroProductosDTO.builder()
+        .nombre("Producto 99999")
+        .limite(50)
+        .build();
+
+    JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+    jdbcTemplate.execute("analyze");
+    verificarPlan(captura, jdbcTemplate, rangoDePrecios, "IDX_PRODUCTO_CATEGORIA_PRECIO");
+    verificarPlan(captura, jdbcTemplate, categoriaPorId, "IDX_PRODUCTO_CATEGORIA_ID");
+    verificarPlan(captura, jdbcTemplate, prefijoDeNombre, "IDX_PRODUCTO_NOMBRE");
+  }
+
+  @TearDown
+  public void detener() {
+    contexto.close();
+  }
+
+  @Benchmark
+  public List<ProductoResponseDTO> categoriaYRangoDePrecios() {
+    return productoService.filtrar(rangoDePrecios);
+  }
+
+  @Benchmark
+  public List<ProductoResponseDTO> categoriaOrdenadaPorId() {
+    return productoService.filtrar(categoriaPorId);
+  }
+
+  @Benchmark
+  public List<ProductoResponseDTO> prefijoDelNombre() {
+    return productoService.filtrar(prefijoDeNombre);
+  }
+
+  private void verificarPlan(CapturaConsultas captura, JdbcTemplate jdbcTemplate, FiltroProductosDTO filtro,
+      String indice) {
+    List<CapturaConsultas.Consulta> consultas = captura.capturar(() -> productoService.filtrar(filtro));
+    if (consultas.size() != 1) {
+      throw new IllegalStateException("El filtro ejecutó " + consultas.size() + " consultas en lugar de una");
+    }
+
+    CapturaConsultas.Consulta consulta = consultas.get(0);
+    String plan = jdbcTemplate.queryForObject("explain " + consulta.sql(), String.class, consulta.parametros());
+    System.out.println(plan);
+    Matcher usado = INDICE_DEL_PLAN.matcher(plan == null ? "" : plan);
+    if (!usado.find() || !usado.group(1).equals(indice)) {
+      throw new IllegalStateException("La consulta no utiliza el índice " + indice + ":\n" + plan);
+    }
+  }
+}
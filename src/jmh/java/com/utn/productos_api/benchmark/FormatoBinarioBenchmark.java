@@ -0,0 +1,72 @@
+package com.utn.productos_api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.mapper.ProductoMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class FormatoBinarioBenchmark {
+
+  private static final TypeReference<List<ProductoResponseDTO>> LISTA = new TypeReference<>() {
+  };
+
+  @Param({"1000", "100000"})
+  private int filas;
+
+  @Param({"json", "cbor", "smile"})
+  private String formato;
+
+  private ObjectMapper objectMapper;
+  private List<ProductoResponseDTO> productos;
+  private byte[] serializados;
+
+  @Setup
+  public void preparar() throws IOException {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+    objectMapper = switch (formato) {
+      case "cbor" -> builder.factory(new CBORFactory()).build();
+      case "smile" -> builder.factory(new SmileFactory()).build();
+      default -> builder.build();
+    };
+    productos = Mappers.getMapper(ProductoMapper.class)
+        .toProductoResponseDTOList(ContextoBenchmark.productos(filas));
+    serializados = objectMapper.writeValueAsBytes(productos);
+
+    System.out.printf("%n%s, %d productos: %d bytes (%.1f bytes por producto)%n",
+        formato, filas, serializados.length, (double) serializados.length / filas);
+  }
+
+  @Benchmark
+  public byte[] codificar() throws IOException {
+    return objectMapper.writeValueAsBytes(productos);
+  }
+
+  @Benchmark
+  public List<ProductoResponseDTO> decodificar() throws IOException {
+    return objectMapper.readValue(serializados, LISTA);
+  }
+}
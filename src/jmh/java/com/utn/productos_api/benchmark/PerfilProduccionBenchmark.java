@@ -0,0 +1,90 @@
+package com.utn.productos_api.benchmark;
+
+import com.utn.productos_api.dto.ProductoDTO;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.service.ProductoService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PerfilProduccionBenchmark {
+
+  private static final int FILAS = 100_000;
+
+  @Param({"desarrollo", "prod"})
+  private String perfil;
+
+  private ConfigurableApplicationContext contexto;
+  private ProductoService productoService;
+
+  @Setup
+  public void iniciar() {
+    Map<String, Object> propiedades = new HashMap<>();
+    propiedades.put("productos.cache.enabled", "false");
+    propiedades.put("logging.file.name", "target/perfil-" + perfil + ".log");
+    propiedades.put("logging.pattern.console", "");
+
+    if (perfil.equals("prod")) {
+      propiedades.put("spring.datasource.url",
+          "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";LOCK_TIMEOUT=10000;QUERY_CACHE_SIZE=256");
+      contexto = ContextoBenchmark.iniciar(propiedades, "prod");
+    } else {
+      propiedades.put("spring.jpa.show-sql", "true");
+      propiedades.put("spring.jpa.properties.hibernate.format_sql", "true");
+      propiedades.put("logging.level.org.hibernate.SQL", "DEBUG");
+      propiedades.put("logging.level.org.hibernate.orm.jdbc.bind", "TRACE");
+      propiedades.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "TRACE");
+      contexto = ContextoBenchmark.iniciar(propiedades);
+    }
+
+    ContextoBenchmark.poblar(contexto, FILAS);
+    contexto.getBean(JdbcTemplate.class).execute("alter sequence producto_seq restart with " + (FILAS + 100));
+    productoService = contexto.getBean(ProductoService.class);
+  }
+
+  @TearDown
+  public void detener() {
+    contexto.close();
+  }
+
+  @Benchmark
+  public ProductoResponseDTO obtenerPorId() {
+    return productoService.obtenerPorId(ThreadLocalRandom.current().nextLong(1, FILAS + 1));
+  }
+
+  @Benchmark
+  public ProductoResponseDTO crearProducto() {
+    ProductoDTO dto = new ProductoDTO();
+    dto.setNombre("Producto benchmark");
+    dto.setDescripcion("Alta medida con el perfil " + perfil);
+    dto.setPrecio(150.0);
+    dto.setStock(10);
+    dto.setCategoria(Categoria.HOGAR);
+    return productoService.crearProducto(dto);
+  }
+}
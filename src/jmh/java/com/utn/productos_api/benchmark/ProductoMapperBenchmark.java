@@ -0,0 +1,45 @@
+package com.utn.productos_api.benchmark;
+
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.mapper.ProductoMapper;
+import com.utn.productos_api.model.Producto;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ProductoMapperBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  private int filas;
+
+  private ProductoMapper mapper;
+  private List<Producto> productos;
+
+  @Setup
+  public void preparar() {
+    mapper = Mappers.getMapper(ProductoMapper.class);
+    productos = ContextoBenchmark.productos(filas);
+  }
+
+  @Benchmark
+  public List<ProductoResponseDTO> toProductoResponseDTOList() {
+    return mapper.toProductoResponseDTOList(productos);
+  }
+}
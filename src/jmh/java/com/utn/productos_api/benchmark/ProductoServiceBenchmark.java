@@ -0,0 +1,56 @@
+package com.utn.productos_api.benchmark;
+
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.service.ProductoService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ProductoServiceBenchmark {
+
+  @Param({"10000", "100000"})
+  private int filas;
+
+  @Param({"false", "true"})
+  private boolean cache;
+
+  private ConfigurableApplicationContext contexto;
+  private ProductoService productoService;
+
+  @Setup
+  public void iniciar() {
+    contexto = ContextoBenchmark.iniciar(Map.of("productos.cache.enabled", String.valueOf(cache)));
+    ContextoBenchmark.poblar(contexto, filas);
+    productoService = contexto.getBean(ProductoService.class);
+  }
+
+  @TearDown
+  public void detener() {
+    contexto.close();
+  }
+
+  @Benchmark
+  public List<ProductoResponseDTO> obtenerPorCategoria() {
+    return productoService.obtenerPorCategoria(Categoria.ELECTRONICA);
+  }
+}
@@ -0,0 +1,48 @@
+package com.utn.productos_api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.mapper.ProductoMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SerializacionBenchmark {
+
+  @Param({"1000", "100000"})
+  private int filas;
+
+  private ObjectMapper objectMapper;
+  private List<ProductoResponseDTO> productos;
+
+  @Setup
+  public void preparar() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    productos = Mappers.getMapper(ProductoMapper.class)
+        .toProductoResponseDTOList(ContextoBenchmark.productos(filas));
+  }
+
+  @Benchmark
+  public byte[] serializarListaJson() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(productos);
+  }
+}
@@ -0,0 +1,130 @@
+package com.utn.productos_api.cache;
+
+import com.utn.productos_api.events.CatalogoImportadoEvent;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.exceptions.CargaDemoradaException;
+import com.utn.productos_api.model.Categoria;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class CargasCompartidas implements MeterBinder {
+
+  private final boolean habilitadas;
+  private final Duration espera;
+  private final ConcurrentHashMap<String, CompletableFuture<Object>> enCurso = new ConcurrentHashMap<>();
+
+  private final AtomicLong propias = new AtomicLong();
+  private final AtomicLong compartidas = new AtomicLong();
+
+  public CargasCompartidas(
+      @Value("${productos.cargas-compartidas.enabled:true}") boolean habilitadas,
+      @Value("${productos.cargas-compartidas.espera:5s}") Duration espera) {
+    this.habilitadas = habilitadas;
+    this.espera = espera;
+  }
+
+  public static String claveProducto(Long id) {
+    return "producto:" + id;
+  }
+
+  public static String claveCategoria(Categoria categoria) {
+    return "categoria:" + categoria;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T obtener(String clave, Supplier<T> cargar) {
+    if (!habilitadas) {
+      return cargar.get();
+    }
+
+    CompletableFuture<Object> propia = new CompletableFuture<>();
+    CompletableFuture<Object> existente = enCurso.putIfAbsent(clave, propia);
+    if (existente != null) {
+      compartidas.incrementAndGet();
+      return (T) esperar(clave, existente);
+    }
+
+    propias.incrementAndGet();
+    try {
+      T valor = cargar.get();
+      propia.complete(valor);
+      return valor;
+    } catch (RuntimeException | Error e) {
+      propia.completeExceptionally(e);
+      throw e;
+    } finally {
+      enCurso.remove(clave, propia);
+    }
+  }
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void descartar(ProductoModificadoEvent evento) {
+    enCurso.remove(claveProducto(evento.id()));
+    for (Categoria categoria : evento.categoriasAfectadas()) {
+      enCurso.remove(claveCategoria(categoria));
+    }
+  }
+
+  @EventListener
+  public void descartarTodas(CatalogoImportadoEvent evento) {
+    enCurso.clear();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("productos.cargas", propias, AtomicLong::get)
+        .tag("resultado", "propia")
+        .description("Lecturas que consultaron la base porque no había otra igual en curso")
+        .register(registry);
+    FunctionCounter.builder("productos.cargas", compartidas, AtomicLong::get)
+        .tag("resultado", "compartida")
+        .description("Lecturas que esperaron y reutilizaron el resultado de otra igual en curso")
+        .register(registry);
+    Gauge.builder("productos.cargas.compartidas.proporcion", this, CargasCompartidas::proporcionCompartidas)
+        .description("Proporción de lecturas resueltas con una carga en curso de otra solicitud")
+        .register(registry);
+  }
+
+  private double proporcionCompartidas() {
+    long compartidasActuales = compartidas.get();
+    long total = propias.get() + compartidasActuales;
+    return total == 0 ? 0.0 : (double) compartidasActuales / total;
+  }
+
+  private Object esperar(String clave, CompletableFuture<Object> enEjecucion) {
+    try {
+      return enEjecucion.get(espera.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      throw new CargaDemoradaException("La lectura de " + clave + " en curso no terminó a tiempo");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CargaDemoradaException("Se interrumpió la espera de la lectura de " + clave);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException causa) {
+        throw causa;
+      }
+      if (e.getCause() instanceof Error causa) {
+        throw causa;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.utn.productos_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.events.CatalogoImportadoEvent;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.model.Categoria;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class ProductoCache implements MeterBinder {
+
+  private final boolean habilitada;
+  private final Cache<Long, ProductoResponseDTO> porId;
+  private final Cache<Categoria, List<ProductoResponseDTO>> porCategoria;
+
+  public ProductoCache(
+      @Value("${productos.cache.enabled:true}") boolean habilitada,
+      @Value("${productos.cache.tamanio-maximo:10000}") long tamanioMaximo,
+      @Value("${productos.cache.maximo-productos-por-categoria:50000}") long maximoProductosPorCategoria,
+      @Value("${productos.cache.ttl:5m}") Duration ttl) {
+    this.habilitada = habilitada;
+    this.porId = Caffeine.newBuilder()
+        .maximumSize(tamanioMaximo)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    this.porCategoria = Caffeine.newBuilder()
+        .maximumWeight(maximoProductosPorCategoria)
+        .<Categoria, List<ProductoResponseDTO>>weigher((categoria, productos) -> productos.size())
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+  }
+
+  public ProductoResponseDTO obtenerPorId(Long id, Supplier<ProductoResponseDTO> cargar) {
+    if (!habilitada) {
+      return cargar.get();
+    }
+    return porId.get(id, clave -> cargar.get());
+  }
+
+  public Optional<ProductoResponseDTO> buscarPorId(Long id) {
+    return habilitada ? Optional.ofNullable(porId.getIfPresent(id)) : Optional.empty();
+  }
+
+  public Map<Long, ProductoResponseDTO> obtenerVarios(Collection<Long> ids,
+      Function<Set<Long>, Map<Long, ProductoResponseDTO>> cargarFaltantes) {
+    if (!habilitada) {
+      return cargarFaltantes.apply(Set.copyOf(ids));
+    }
+    Map<Long, ProductoResponseDTO> encontrados = new HashMap<>(porId.getAllPresent(ids));
+    Set<Long> faltantes = ids.stream().filter(id -> !encontrados.containsKey(id)).collect(Collectors.toSet());
+    if (!faltantes.isEmpty()) {
+      encontrados.putAll(cargarFaltantes.apply(faltantes));
+    }
+    return encontrados;
+  }
+
+  public List<ProductoResponseDTO> obtenerPorCategoria(Categoria categoria, Supplier<List<ProductoResponseDTO>> cargar) {
+    if (!habilitada) {
+      return cargar.get();
+    }
+    return porCategoria.get(categoria, clave -> List.copyOf(cargar.get()));
+  }
+
+  public Optional<List<ProductoResponseDTO>> buscarPorCategoria(Categoria categoria) {
+    return habilitada ? Optional.ofNullable(porCategoria.getIfPresent(categoria)) : Optional.empty();
+  }
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void invalidar(ProductoModificadoEvent evento) {
+    porId.invalidate(evento.id());
+    porCategoria.invalidateAll(evento.categoriasAfectadas());
+  }
+
+  @EventListener
+  public void invalidarTodo(CatalogoImportadoEvent evento) {
+    porId.invalidateAll();
+    porCategoria.invalidateAll();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, porId, "productos.porId");
+    CaffeineCacheMetrics.monitor(registry, porCategoria, "productos.porCategoria");
+  }
+
+  public CacheStats estadisticasPorId() {
+    return porId.stats();
+  }
+
+  public CacheStats estadisticasPorCategoria() {
+    return porCategoria.stats();
+  }
+}
@@ -0,0 +1,4 @@
+package com.utn.productos_api.cache;
+
+public record RespuestaSerializada(String version, byte[] json, byte[] gzip) {
+}
@@ -0,0 +1,127 @@
+package com.utn.productos_api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.events.CatalogoImportadoEvent;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.model.Categoria;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class RespuestasCategoria implements MeterBinder {
+
+  private final boolean habilitada;
+  private final ObjectMapper objectMapper;
+  private final Map<Categoria, AtomicReference<RespuestaSerializada>> respuestas = new EnumMap<>(Categoria.class);
+  private final LongAdder aciertos = new LongAdder();
+  private final LongAdder fallos = new LongAdder();
+
+  public RespuestasCategoria(
+      @Value("${productos.cache.respuestas.enabled:true}") boolean habilitada,
+      ObjectMapper objectMapper) {
+    this.habilitada = habilitada;
+    this.objectMapper = objectMapper;
+    for (Categoria categoria : Categoria.values()) {
+      respuestas.put(categoria, new AtomicReference<>());
+    }
+  }
+
+  public RespuestaSerializada obtener(Categoria categoria, String version,
+      Supplier<List<ProductoResponseDTO>> cargar) {
+    if (!habilitada) {
+      fallos.increment();
+      return serializar(version, cargar.get());
+    }
+
+    AtomicReference<RespuestaSerializada> referencia = respuestas.get(categoria);
+    RespuestaSerializada actual = referencia.get();
+    if (actual != null && actual.version().equals(version)) {
+      aciertos.increment();
+      return actual;
+    }
+
+    synchronized (referencia) {
+      actual = referencia.get();
+      if (actual != null && actual.version().equals(version)) {
+        aciertos.increment();
+        return actual;
+      }
+      fallos.increment();
+      RespuestaSerializada nueva = serializar(version, cargar.get());
+      referencia.set(nueva);
+      return nueva;
+    }
+  }
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void invalidar(ProductoModificadoEvent evento) {
+    for (Categoria categoria : evento.categoriasAfectadas()) {
+      respuestas.get(categoria).set(null);
+    }
+  }
+
+  @EventListener
+  public void invalidarTodo(CatalogoImportadoEvent evento) {
+    respuestas.values().forEach(respuesta -> respuesta.set(null));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("productos.cache.respuestas", aciertos, LongAdder::sum)
+        .tag("resultado", "hit")
+        .register(registry);
+    FunctionCounter.builder("productos.cache.respuestas", fallos, LongAdder::sum)
+        .tag("resultado", "miss")
+        .register(registry);
+    Gauge.builder("productos.cache.respuestas.bytes", this, RespuestasCategoria::bytesRetenidos)
+        .baseUnit("bytes")
+        .register(registry);
+  }
+
+  private double bytesRetenidos() {
+    long total = 0;
+    for (AtomicReference<RespuestaSerializada> referencia : respuestas.values()) {
+      RespuestaSerializada respuesta = referencia.get();
+      if (respuesta != null) {
+        total += respuesta.json().length + respuesta.gzip().length;
+      }
+    }
+    return total;
+  }
+
+  private RespuestaSerializada serializar(String version, List<ProductoResponseDTO> productos) {
+    try {
+      byte[] json = objectMapper.writeValueAsBytes(productos);
+      ByteArrayOutputStream comprimido = new ByteArrayOutputStream(Math.max(json.length / 4, 64));
+      try (GZIPOutputStream gzip = new GZIPOutputStream(comprimido)) {
+        gzip.write(json);
+      }
+      return new RespuestaSerializada(version, json, comprimido.toByteArray());
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
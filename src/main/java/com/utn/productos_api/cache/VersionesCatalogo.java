@@ -0,0 +1,57 @@
+package com.utn.productos_api.cache;
+
+import com.utn.productos_api.events.CatalogoImportadoEvent;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.stock.StockLedger;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class VersionesCatalogo {
+
+  private final long epoca = System.currentTimeMillis();
+  private final AtomicLong global = new AtomicLong();
+  private final Map<Categoria, AtomicLong> porCategoria = new EnumMap<>(Categoria.class);
+  private final StockLedger stockLedger;
+
+  public VersionesCatalogo(StockLedger stockLedger) {
+    this.stockLedger = stockLedger;
+    for (Categoria categoria : Categoria.values()) {
+      porCategoria.put(categoria, new AtomicLong());
+    }
+  }
+
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void registrar(ProductoModificadoEvent evento) {
+    for (Categoria categoria : evento.categoriasAfectadas()) {
+      porCategoria.get(categoria).incrementAndGet();
+    }
+    global.incrementAndGet();
+  }
+
+  @EventListener
+  public void registrarImportacion(CatalogoImportadoEvent evento) {
+    porCategoria.values().forEach(AtomicLong::incrementAndGet);
+    global.incrementAndGet();
+  }
+
+  public String etagCatalogo() {
+    return etag("c", global.get());
+  }
+
+  public String etagCategoria(Categoria categoria) {
+    return etag(categoria.name(), porCategoria.get(categoria).get());
+  }
+
+  private String etag(String recurso, long version) {
+    return "\"" + recurso + "-" + epoca + "-" + version + "-" + stockLedger.cambiosEnMemoria() + "\"";
+  }
+}
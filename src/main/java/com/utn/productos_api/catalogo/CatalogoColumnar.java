@@ -0,0 +1,187 @@
+package com.utn.productos_api.catalogo;
+
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.model.Categoria;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+public final class CatalogoColumnar {
+
+  private static final Categoria[] CATEGORIAS = Categoria.values();
+
+  private final long version;
+  private final int filas;
+  private final long[] ids;
+  private final double[] precios;
+  private final int[] stocks;
+  private final byte[] categorias;
+  private final long[] versiones;
+  private final byte[] textos;
+  private final int[] desplazamientos;
+  private final BitSet sinDescripcion;
+  private final int[][] porCategoria;
+
+  private CatalogoColumnar(Constructor constructor, long version) {
+    this.version = version;
+    this.filas = constructor.filas;
+    this.ids = Arrays.copyOf(constructor.ids, filas);
+    this.precios = Arrays.copyOf(constructor.precios, filas);
+    this.stocks = Arrays.copyOf(constructor.stocks, filas);
+    this.categorias = Arrays.copyOf(constructor.categorias, filas);
+    this.versiones = Arrays.copyOf(constructor.versiones, filas);
+    this.textos = Arrays.copyOf(constructor.textos, constructor.bytesTexto);
+    this.desplazamientos = Arrays.copyOf(constructor.desplazamientos, 2 * filas + 1);
+    this.sinDescripcion = constructor.sinDescripcion;
+
+    int[] cantidades = new int[CATEGORIAS.length];
+    for (int i = 0; i < filas; i++) {
+      cantidades[categorias[i]]++;
+    }
+    this.porCategoria = new int[CATEGORIAS.length][];
+    for (int c = 0; c < CATEGORIAS.length; c++) {
+      porCategoria[c] = new int[cantidades[c]];
+      cantidades[c] = 0;
+    }
+    for (int i = 0; i < filas; i++) {
+      porCategoria[categorias[i]][cantidades[categorias[i]]++] = i;
+    }
+  }
+
+  public static Constructor constructor(int capacidad) {
+    return new Constructor(capacidad);
+  }
+
+  public long version() {
+    return version;
+  }
+
+  public int filas() {
+    return filas;
+  }
+
+  public Optional<ProductoResponseDTO> obtenerPorId(long id) {
+    int fila = Arrays.binarySearch(ids, 0, filas, id);
+    return fila < 0 ? Optional.empty() : Optional.of(producto(fila));
+  }
+
+  public List<ProductoResponseDTO> obtenerPorCategoria(Categoria categoria) {
+    int[] filasCategoria = porCategoria[categoria.ordinal()];
+    List<ProductoResponseDTO> productos = new ArrayList<>(filasCategoria.length);
+    for (int fila : filasCategoria) {
+      productos.add(producto(fila));
+    }
+    return productos;
+  }
+
+  public List<ProductoResponseDTO> obtenerDesde(long desdeId, int limite) {
+    int posicion = Arrays.binarySearch(ids, 0, filas, desdeId);
+    int desde = posicion < 0 ? -posicion - 1 : posicion + 1;
+    int hasta = (int) Math.min(filas, (long) desde + limite);
+    List<ProductoResponseDTO> productos = new ArrayList<>(Math.max(0, hasta - desde));
+    for (int fila = desde; fila < hasta; fila++) {
+      productos.add(producto(fila));
+    }
+    return productos;
+  }
+
+  public long bytesEstimados() {
+    long porCategoriaBytes = Arrays.stream(porCategoria).mapToLong(filasCategoria -> 4L * filasCategoria.length).sum();
+    return 8L * ids.length + 8L * precios.length + 4L * stocks.length + categorias.length + 8L * versiones.length
+        + textos.length + 4L * desplazamientos.length + sinDescripcion.size() / 8 + porCategoriaBytes;
+  }
+
+  private ProductoResponseDTO producto(int fila) {
+    return ProductoResponseDTO.builder()
+        .id(ids[fila])
+        .nombre(texto(2 * fila))
+        .descripcion(sinDescripcion.get(fila) ? null : texto(2 * fila + 1))
+        .precio(precios[fila])
+        .stock(stocks[fila])
+        .categoria(CATEGORIAS[categorias[fila]])
+        .version(versiones[fila])
+        .build();
+  }
+
+  private String texto(int indice) {
+    int inicio = desplazamientos[indice];
+    return new String(textos, inicio, desplazamientos[indice + 1] - inicio, StandardCharsets.UTF_8);
+  }
+
+  public static final class Constructor {
+
+    private int filas;
+    private long[] ids;
+    private double[] precios;
+    private int[] stocks;
+    private byte[] categorias;
+    private long[] versiones;
+    private byte[] textos;
+    private int bytesTexto;
+    private int[] desplazamientos;
+    private final BitSet sinDescripcion = new BitSet();
+    private long ultimoId = Long.MIN_VALUE;
+
+    private Constructor(int capacidad) {
+      int inicial = Math.max(capacidad, 16);
+      this.ids = new long[inicial];
+      this.precios = new double[inicial];
+      this.stocks = new int[inicial];
+      this.categorias = new byte[inicial];
+      this.versiones = new long[inicial];
+      this.textos = new byte[inicial * 64];
+      this.desplazamientos = new int[2 * inicial + 1];
+    }
+
+    public void agregar(long id, String nombre, String descripcion, double precio, int stock, Categoria categoria,
+        long version) {
+      if (id <= ultimoId) {
+        throw new IllegalArgumentException("Los productos deben agregarse en orden creciente de id");
+      }
+      if (filas == ids.length) {
+        crecer();
+      }
+
+      ids[filas] = id;
+      precios[filas] = precio;
+      stocks[filas] = stock;
+      categorias[filas] = (byte) categoria.ordinal();
+      versiones[filas] = version;
+      agregarTexto(2 * filas, nombre);
+      if (descripcion == null) {
+        sinDescripcion.set(filas);
+      }
+      agregarTexto(2 * filas + 1, descripcion);
+      ultimoId = id;
+      filas++;
+    }
+
+    public CatalogoColumnar construir(long version) {
+      return new CatalogoColumnar(this, version);
+    }
+
+    private void agregarTexto(int indice, String texto) {
+      byte[] bytes = texto == null ? new byte[0] : texto.getBytes(StandardCharsets.UTF_8);
+      if (bytesTexto + bytes.length > textos.length) {
+        textos = Arrays.copyOf(textos, Math.max(textos.length * 2, bytesTexto + bytes.length));
+      }
+      System.arraycopy(bytes, 0, textos, bytesTexto, bytes.length);
+      desplazamientos[indice] = bytesTexto;
+      bytesTexto += bytes.length;
+      desplazamientos[indice + 1] = bytesTexto;
+    }
+
+    private void crecer() {
+      int capacidad = ids.length * 2;
+      ids = Arrays.copyOf(ids, capacidad);
+      precios = Arrays.copyOf(precios, capacidad);
+      stocks = Arrays.copyOf(stocks, capacidad);
+      categorias = Arrays.copyOf(categorias, capacidad);
+      versiones = Arrays.copyOf(versiones, capacidad);
+      desplazamientos = Arrays.copyOf(desplazamientos, 2 * capacidad + 1);
+    }
+  }
+}
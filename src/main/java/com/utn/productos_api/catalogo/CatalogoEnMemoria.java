@@ -0,0 +1,169 @@
+package com.utn.productos_api.catalogo;
+
+import com.utn.productos_api.events.CatalogoImportadoEvent;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.model.Categoria;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.PreparedStatement;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class CatalogoEnMemoria implements MeterBinder {
+
+  private static final Logger log = LoggerFactory.getLogger(CatalogoEnMemoria.class);
+
+  private final boolean habilitado;
+  private final JdbcTemplate jdbcTemplate;
+  private final AtomicReference<CatalogoColumnar> actual = new AtomicReference<>();
+  private final AtomicBoolean pendiente = new AtomicBoolean(true);
+  private final AtomicLong reconstrucciones = new AtomicLong();
+  private final AtomicLong cambios = new AtomicLong();
+  private final AtomicLong podadoHasta = new AtomicLong();
+  private final Map<Long, Long> idsModificados = new ConcurrentHashMap<>();
+  private final Map<Categoria, AtomicLong> categoriasModificadas = new EnumMap<>(Categoria.class);
+  private volatile long duracionUltimaMs;
+
+  public CatalogoEnMemoria(
+      @Value("${productos.catalogo-memoria.enabled:false}") boolean habilitado,
+      JdbcTemplate jdbcTemplate) {
+    this.habilitado = habilitado;
+    this.jdbcTemplate = jdbcTemplate;
+    for (Categoria categoria : Categoria.values()) {
+      categoriasModificadas.put(categoria, new AtomicLong());
+    }
+  }
+
+  public Optional<CatalogoColumnar> snapshot() {
+    return Optional.ofNullable(actual.get());
+  }
+
+  public boolean vigente(CatalogoColumnar catalogo, long id) {
+    Long cambio = idsModificados.get(id);
+    return (cambio == null || cambio <= catalogo.version()) && podadoHasta.get() <= catalogo.version();
+  }
+
+  public boolean vigente(CatalogoColumnar catalogo, long desdeId, long hastaId) {
+    for (Map.Entry<Long, Long> modificado : idsModificados.entrySet()) {
+      if (modificado.getValue() > catalogo.version() && modificado.getKey() > desdeId && modificado.getKey() <= hastaId) {
+        return false;
+      }
+    }
+    return podadoHasta.get() <= catalogo.version();
+  }
+
+  public boolean vigente(CatalogoColumnar catalogo, Categoria categoria) {
+    return categoriasModificadas.get(categoria).get() <= catalogo.version();
+  }
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void marcarPendiente(ProductoModificadoEvent evento) {
+    if (!habilitado) {
+      return;
+    }
+    long cambio = cambios.incrementAndGet();
+    idsModificados.merge(evento.id(), cambio, Math::max);
+    for (Categoria categoria : evento.categoriasAfectadas()) {
+      categoriasModificadas.get(categoria).accumulateAndGet(cambio, Math::max);
+    }
+    pendiente.set(true);
+  }
+
+  @EventListener
+  public void reemplazar(CatalogoImportadoEvent evento) {
+    if (!habilitado) {
+      return;
+    }
+    long cambio = cambios.incrementAndGet();
+    for (AtomicLong categoria : categoriasModificadas.values()) {
+      categoria.accumulateAndGet(cambio, Math::max);
+    }
+    podadoHasta.accumulateAndGet(cambio, Math::max);
+    pendiente.set(true);
+    reconstruirSiHayCambios();
+  }
+
+  @Scheduled(fixedDelayString = "${productos.catalogo-memoria.intervalo-ms:500}")
+  public void reconstruirSiHayCambios() {
+    if (!habilitado || !pendiente.getAndSet(false)) {
+      return;
+    }
+    try {
+      reconstruir();
+    } catch (RuntimeException e) {
+      pendiente.set(true);
+      log.warn("No se pudo reconstruir el catálogo en memoria, se reintentará", e);
+    }
+  }
+
+  public CatalogoColumnar reconstruir() {
+    long inicio = System.nanoTime();
+    long version = cambios.get();
+    Long total = jdbcTemplate.queryForObject("select count(*) from producto", Long.class);
+    CatalogoColumnar.Constructor constructor = CatalogoColumnar.constructor(total == null ? 0 : total.intValue());
+
+    jdbcTemplate.query(conexion -> {
+      PreparedStatement sentencia = conexion.prepareStatement(
+          "select id, nombre, descripcion, precio, stock, categoria, version from producto order by id");
+      sentencia.setFetchSize(1000);
+      return sentencia;
+    }, (RowCallbackHandler) fila -> constructor.agregar(
+        fila.getLong(1), fila.getString(2), fila.getString(3), fila.getDouble(4), fila.getInt(5),
+        Categoria.valueOf(fila.getString(6)), fila.getLong(7)));
+
+    CatalogoColumnar catalogo = constructor.construir(version);
+    actual.set(catalogo);
+    podadoHasta.accumulateAndGet(version, Math::max);
+    idsModificados.values().removeIf(cambio -> cambio <= version);
+    reconstrucciones.incrementAndGet();
+    duracionUltimaMs = (System.nanoTime() - inicio) / 1_000_000;
+    log.debug("Catálogo en memoria reconstruido: {} productos en {} ms", catalogo.filas(), duracionUltimaMs);
+    return catalogo;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("productos.catalogo.memoria.filas", actual, referencia -> filas(referencia.get()))
+        .description("Productos en el catálogo en memoria")
+        .register(registry);
+    Gauge.builder("productos.catalogo.memoria.bytes", actual, referencia -> bytes(referencia.get()))
+        .baseUnit("bytes")
+        .description("Tamaño estimado de las columnas del catálogo en memoria")
+        .register(registry);
+    Gauge.builder("productos.catalogo.memoria.reconstruccion", this, catalogo -> catalogo.duracionUltimaMs / 1000.0)
+        .baseUnit("seconds")
+        .description("Duración de la última reconstrucción del catálogo en memoria")
+        .register(registry);
+    FunctionCounter.builder("productos.catalogo.memoria.reconstrucciones", reconstrucciones, AtomicLong::get)
+        .description("Reconstrucciones del catálogo en memoria")
+        .register(registry);
+  }
+
+  private static double filas(CatalogoColumnar catalogo) {
+    return catalogo == null ? 0 : catalogo.filas();
+  }
+
+  private static double bytes(CatalogoColumnar catalogo) {
+    return catalogo == null ? 0 : catalogo.bytesEstimados();
+  }
+}
@@ -0,0 +1,27 @@
+package com.utn.productos_api.config;
+
+import com.utn.productos_api.limites.LimitesInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "productos.limites.enabled", havingValue = "true", matchIfMissing = true)
+public class LimitesConfig implements WebMvcConfigurer {
+
+  private final LimitesInterceptor limitesInterceptor;
+
+  public LimitesConfig(LimitesInterceptor limitesInterceptor) {
+    this.limitesInterceptor = limitesInterceptor;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(limitesInterceptor)
+        .addPathPatterns("/api/**")
+        .excludePathPatterns("/api/productos/eventos");
+  }
+}
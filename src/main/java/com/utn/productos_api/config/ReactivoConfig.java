@@ -0,0 +1,26 @@
+package com.utn.productos_api.config;
+
+import com.utn.productos_api.repository.reactivo.ProductoReactivoRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(DataSourceProperties.class)
+@EnableR2dbcRepositories(basePackageClasses = ProductoReactivoRepository.class)
+public class ReactivoConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource dataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+  }
+}
@@ -0,0 +1,71 @@
+package com.utn.productos_api.config;
+
+import com.utn.productos_api.replicas.GrupoReplicas;
+import com.utn.productos_api.replicas.LecturaPropiaFilter;
+import com.utn.productos_api.replicas.ReplicasDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnProperty(name = "productos.replicas.enabled", havingValue = "true")
+public class ReplicasConfig {
+
+  @Bean
+  public GrupoReplicas grupoReplicas(DataSourceProperties propiedades, Environment environment,
+      @Value("${productos.replicas.urls}") List<String> urls,
+      @Value("${productos.replicas.tamanio-pool:10}") int tamanioPool,
+      @Value("${productos.replicas.retraso-maximo:2s}") Duration retrasoMaximo) {
+    Binder binder = Binder.get(environment);
+
+    HikariDataSource primaria = propiedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    binder.bind("spring.datasource.hikari", Bindable.ofInstance(primaria));
+
+    List<HikariDataSource> replicas = new ArrayList<>();
+    for (int i = 0; i < urls.size(); i++) {
+      HikariDataSource replica = propiedades.initializeDataSourceBuilder()
+          .type(HikariDataSource.class)
+          .url(urls.get(i))
+          .build();
+      binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+      replica.setPoolName("productos-replica-" + i);
+      replica.setMaximumPoolSize(tamanioPool);
+      if (replica.getMinimumIdle() > tamanioPool) {
+        replica.setMinimumIdle(tamanioPool);
+      }
+      replica.setReadOnly(true);
+      replicas.add(replica);
+    }
+
+    return new GrupoReplicas(primaria, replicas, retrasoMaximo);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(GrupoReplicas grupoReplicas) {
+    return new LazyConnectionDataSourceProxy(new ReplicasDataSource(grupoReplicas));
+  }
+
+  @Bean
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  public FilterRegistrationBean<LecturaPropiaFilter> lecturaPropia(
+      @Value("${productos.replicas.ventana-lectura-propia:5s}") Duration ventana) {
+    FilterRegistrationBean<LecturaPropiaFilter> registro = new FilterRegistrationBean<>(new LecturaPropiaFilter(ventana));
+    registro.addUrlPatterns("/api/*");
+    return registro;
+  }
+}
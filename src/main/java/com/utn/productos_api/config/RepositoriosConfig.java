@@ -0,0 +1,15 @@
+package com.utn.productos_api.config;
+
+import com.utn.productos_api.repository.ProductoRepository;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@Configuration
+@EnableJpaRepositories(
+    basePackageClasses = ProductoRepository.class,
+    excludeFilters = @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.utn\\.productos_api\\.repository\\.reactivo\\..*")
+)
+public class RepositoriosConfig {
+}
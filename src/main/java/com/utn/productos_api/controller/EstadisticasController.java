@@ -0,0 +1,80 @@
+package com.utn.productos_api.controller;
+
+import com.utn.productos_api.dto.EstadisticasCatalogoDTO;
+import com.utn.productos_api.dto.EstadisticasDTO;
+import com.utn.productos_api.estadisticas.EstadisticasCatalogo;
+import com.utn.productos_api.model.Categoria;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/productos/stats")
+@Tag(
+    name = "Estadísticas del Catálogo",
+    description = "Cantidad de productos, stock, valor del inventario y precios por categoría, mantenidos con cada alta, " +
+        "modificación o baja sin recorrer el catálogo"
+)
+public class EstadisticasController {
+  private final EstadisticasCatalogo estadisticasCatalogo;
+
+  public EstadisticasController(EstadisticasCatalogo estadisticasCatalogo) {
+    this.estadisticasCatalogo = estadisticasCatalogo;
+  }
+
+  @Operation(
+      summary = "Estadísticas del catálogo",
+      description = "Devuelve las estadísticas de todo el catálogo y de cada categoría: cantidad de productos, " +
+          "stock total, valor del stock (precio por stock), precio mínimo, máximo y promedio, y productos sin stock."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Estadísticas del catálogo",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = EstadisticasCatalogoDTO.class))
+      ),
+      @ApiResponse(
+          responseCode = "503",
+          description = "Las estadísticas todavía no terminaron de calcularse desde la base",
+          content = @Content
+      )
+  })
+  @GetMapping
+  public ResponseEntity<EstadisticasCatalogoDTO> obtener() {
+    return ResponseEntity.ok(estadisticasCatalogo.obtener());
+  }
+
+  @Operation(
+      summary = "Estadísticas de una categoría",
+      description = "Devuelve las estadísticas de los productos de la categoría indicada."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Estadísticas de la categoría",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = EstadisticasDTO.class))
+      ),
+      @ApiResponse(
+          responseCode = "503",
+          description = "Las estadísticas todavía no terminaron de calcularse desde la base",
+          content = @Content
+      )
+  })
+  @GetMapping("/{categoria}")
+  public ResponseEntity<EstadisticasDTO> obtenerPorCategoria(
+      @Parameter(description = "Categoría de los productos", required = true, example = "ELECTRONICA")
+      @PathVariable Categoria categoria) {
+    return ResponseEntity.ok(estadisticasCatalogo.obtener(categoria));
+  }
+}
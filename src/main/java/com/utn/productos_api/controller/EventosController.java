@@ -0,0 +1,58 @@
+package com.utn.productos_api.controller;
+
+import com.utn.productos_api.dto.EventoProductoDTO;
+import com.utn.productos_api.outbox.DifusorEventos;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "productos.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@RequestMapping("/api/productos/eventos")
+@Tag(
+    name = "Eventos de Productos",
+    description = "Flujo en vivo de altas, modificaciones, cambios de stock y bajas de productos, " +
+        "publicado desde el outbox transaccional para reemplazar la consulta periódica del catálogo completo."
+)
+public class EventosController {
+  private final DifusorEventos difusorEventos;
+
+  public EventosController(DifusorEventos difusorEventos) {
+    this.difusorEventos = difusorEventos;
+  }
+
+  @Operation(
+      summary = "Suscribirse a los cambios de productos",
+      description = "Abre un flujo Server-Sent Events con un evento por cada cambio confirmado. Cada evento lleva como id " +
+          "su número de secuencia; al reconectar con el encabezado Last-Event-ID o el parámetro desde se reenvían primero " +
+          "los eventos posteriores que aún se conservan. Un mismo evento puede recibirse más de una vez."
+  )
+  @ApiResponse(
+      responseCode = "200",
+      description = "Flujo de eventos",
+      content = @Content(
+          mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+          schema = @Schema(implementation = EventoProductoDTO.class)
+      )
+  )
+  @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter suscribir(
+      @Parameter(description = "Reenviar los eventos con id mayor a este valor", example = "1050")
+      @RequestParam(required = false) Long desde,
+      @RequestHeader(value = "Last-Event-ID", required = false) Long ultimoEvento) {
+    return difusorEventos.suscribir(ultimoEvento != null ? ultimoEvento : desde);
+  }
+}
@@ -0,0 +1,131 @@
+package com.utn.productos_api.controller;
+
+import com.utn.productos_api.dto.FormatoCatalogo;
+import com.utn.productos_api.dto.ResultadoImportacionDTO;
+import com.utn.productos_api.service.ProductoCatalogoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/productos")
+@Tag(
+    name = "Exportación e Importación del Catálogo",
+    description = "Transferencia del catálogo completo en CSV o NDJSON, opcionalmente comprimido con gzip. " +
+        "Ambas operaciones procesan los productos a medida que se leen, con un uso de memoria acotado sin importar el tamaño del archivo."
+)
+public class ProductoCatalogoController {
+  private static final int TAMANIO_BUFFER = 64 * 1024;
+  private static final String GZIP = "gzip";
+
+  private final ProductoCatalogoService productoCatalogoService;
+
+  public ProductoCatalogoController(ProductoCatalogoService productoCatalogoService) {
+    this.productoCatalogoService = productoCatalogoService;
+  }
+
+  @Operation(
+      summary = "Exportar el catálogo completo",
+      description = "Transmite todos los productos ordenados por ID directamente desde un cursor de la base de datos. " +
+          "Con gzip=true la respuesta se envía comprimida con Content-Encoding: gzip."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Catálogo en el formato solicitado",
+          content = {
+              @Content(mediaType = "text/csv"),
+              @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)
+          }
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Formato no soportado",
+          content = @Content
+      )
+  })
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportar(
+      @Parameter(description = "Formato del archivo", example = "CSV")
+      @RequestParam(defaultValue = "NDJSON") FormatoCatalogo formato,
+      @Parameter(description = "Comprimir la respuesta con gzip", example = "true")
+      @RequestParam(defaultValue = "false") boolean gzip) {
+    StreamingResponseBody cuerpo = salida -> {
+      if (!gzip) {
+        productoCatalogoService.exportar(formato, salida);
+        return;
+      }
+      GZIPOutputStream comprimida = new GZIPOutputStream(salida, TAMANIO_BUFFER);
+      productoCatalogoService.exportar(formato, comprimida);
+      comprimida.finish();
+    };
+
+    ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok()
+        .contentType(formato.getMediaType())
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("productos." + formato.getExtension()).build().toString());
+    if (gzip) {
+      respuesta.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+    }
+    return respuesta.body(cuerpo);
+  }
+
+  @Operation(
+      summary = "Importar un catálogo en CSV",
+      description = "Lee el archivo registro por registro, valida cada producto con las mismas reglas que el alta individual " +
+          "y lo guarda en lotes. Los registros con un ID existente actualizan ese producto y el resto se crean con un ID nuevo. " +
+          "El CSV debe tener encabezado con las columnas nombre, precio, stock y categoria, y opcionalmente id y descripcion. " +
+          "Acepta el cuerpo comprimido con Content-Encoding: gzip."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Importación procesada con la cantidad de productos creados, actualizados y rechazados",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResultadoImportacionDTO.class))
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "El archivo está vacío o el encabezado no incluye las columnas obligatorias",
+          content = @Content
+      )
+  })
+  @PostMapping(value = "/import", consumes = "text/csv")
+  public ResponseEntity<ResultadoImportacionDTO> importarCsv(
+      @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String codificacion,
+      InputStream cuerpo) throws IOException {
+    return ResponseEntity.ok(productoCatalogoService.importar(FormatoCatalogo.CSV, descomprimir(cuerpo, codificacion)));
+  }
+
+  @Operation(summary = "Importar un catálogo en NDJSON")
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<ResultadoImportacionDTO> importarNdjson(
+      @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String codificacion,
+      InputStream cuerpo) throws IOException {
+    return ResponseEntity.ok(productoCatalogoService.importar(FormatoCatalogo.NDJSON, descomprimir(cuerpo, codificacion)));
+  }
+
+  private InputStream descomprimir(InputStream cuerpo, String codificacion) throws IOException {
+    return GZIP.equalsIgnoreCase(codificacion) ? new GZIPInputStream(cuerpo, TAMANIO_BUFFER) : cuerpo;
+  }
+}
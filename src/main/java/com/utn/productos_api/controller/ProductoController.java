@@ -1,8 +1,17 @@
 package com.utn.productos_api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.cache.RespuestaSerializada;
 import com.utn.productos_api.dto.ActualizarStockDTO;
+import com.utn.productos_api.dto.FiltroProductosDTO;
+import com.utn.productos_api.dto.MovimientoStockDTO;
+import com.utn.productos_api.dto.PaginaProductosDTO;
 import com.utn.productos_api.dto.ProductoDTO;
 import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.dto.ProductosPorIdDTO;
+import com.utn.productos_api.dto.VersionProducto;
+import com.utn.productos_api.idempotencia.Idempotencia;
+import com.utn.productos_api.idempotencia.ResultadoIdempotente;
 import com.utn.productos_api.model.Categoria;
 import com.utn.productos_api.service.ProductoService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,8 +24,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Supplier;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,10 +42,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/productos")
 @Tag(
     name = "Gestión de Productos",
@@ -37,31 +59,49 @@ import org.springframework.web.bind.annotation.RestController;
         "consultar por categorías y gestionar el inventario de stock."
 )
 public class ProductoController {
+  private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+  private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
   private final ProductoService productoService;
+  private final ObjectMapper objectMapper;
+  private final Idempotencia idempotencia;
 
-  public ProductoController(ProductoService productoService) {
+  public ProductoController(ProductoService productoService, ObjectMapper objectMapper, Idempotencia idempotencia) {
     this.productoService = productoService;
+    this.objectMapper = objectMapper;
+    this.idempotencia = idempotencia;
   }
 
   @Operation(
-      summary = "Listar todos los productos",
-      description = "Recupera un listado completo de todos los productos registrados en el sistema. " +
-          "La respuesta incluye información detallada de cada producto: ID, nombre, descripción, " +
-          "precio, stock disponible y categoría. No requiere parámetros de entrada."
+      summary = "Listar productos paginados",
+      description = "Recupera los productos registrados en el sistema ordenados por ID, en páginas de tamaño acotado. " +
+          "La primera página se obtiene sin cursor; cada respuesta incluye en 'siguienteCursor' el valor a enviar " +
+          "para obtener la página siguiente, o nulo si no quedan productos. " +
+          "Enviando 'Accept: application/x-ndjson' se obtiene el catálogo completo como un flujo de productos, uno por línea."
   )
   @ApiResponses(value = {
       @ApiResponse(
           responseCode = "200",
-          description = "Lista de productos obtenida exitosamente",
+          description = "Página de productos obtenida exitosamente",
           content = @Content(
               mediaType = "application/json",
-              array = @ArraySchema(schema = @Schema(implementation = ProductoResponseDTO.class)),
+              schema = @Schema(implementation = PaginaProductosDTO.class),
               examples = @ExampleObject(
-                  name = "Lista de productos",
-                  value = "[{\"id\":1,\"nombre\":\"Laptop Dell Inspiron 15\",\"descripcion\":\"Laptop con procesador Intel Core i5\",\"precio\":45999.99,\"stock\":25,\"categoria\":\"ELECTRONICA\"},{\"id\":2,\"nombre\":\"Remera Nike Deportiva\",\"descripcion\":\"Remera deportiva talle M\",\"precio\":8500.50,\"stock\":100,\"categoria\":\"ROPA\"}]"
+                  name = "Página de productos",
+                  value = "{\"productos\":[{\"id\":1,\"nombre\":\"Laptop Dell Inspiron 15\",\"descripcion\":\"Laptop con procesador Intel Core i5\",\"precio\":45999.99,\"stock\":25,\"categoria\":\"ELECTRONICA\"},{\"id\":2,\"nombre\":\"Remera Nike Deportiva\",\"descripcion\":\"Remera deportiva talle M\",\"precio\":8500.50,\"stock\":100,\"categoria\":\"ROPA\"}],\"siguienteCursor\":\"aWQ6Mg\",\"limite\":2}"
               )
           )
       ),
+      @ApiResponse(
+          responseCode = "304",
+          description = "El catálogo no cambió desde la versión indicada en If-None-Match; no se envía cuerpo",
+          content = @Content
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "El cursor no es válido o el límite está fuera del rango permitido",
+          content = @Content
+      ),
       @ApiResponse(
           responseCode = "500",
           description = "Error interno del servidor al procesar la solicitud",
@@ -69,9 +109,47 @@ public class ProductoController {
       )
   })
   @GetMapping
-  public ResponseEntity<List<ProductoResponseDTO>> listarTodos() {
-    List<ProductoResponseDTO> productos = productoService.obtenerTodos();
-    return ResponseEntity.ok(productos);
+  public ResponseEntity<PaginaProductosDTO> listarTodos(
+      @Parameter(
+          description = "Cursor opaco recibido en la página anterior. Se omite para obtener la primera página.",
+          example = "aWQ6NTA"
+      )
+      @RequestParam(required = false) String cursor,
+      @Parameter(
+          description = "Cantidad máxima de productos por página",
+          example = "50"
+      )
+      @RequestParam(required = false) Integer limite,
+      WebRequest request) {
+    String etag = productoService.versionCatalogo();
+    if (request.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    PaginaProductosDTO pagina = productoService.obtenerPagina(cursor, limite);
+    return ResponseEntity.ok().eTag(etag).body(pagina);
+  }
+
+  @Operation(
+      summary = "Listar todos los productos como flujo NDJSON",
+      description = "Transmite el catálogo completo ordenado por ID, un producto JSON por línea, " +
+          "a medida que se leen de la base de datos y sin cargar todo el listado en memoria."
+  )
+  @ApiResponse(
+      responseCode = "200",
+      description = "Flujo de productos en formato NDJSON",
+      content = @Content(
+          mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+          schema = @Schema(implementation = ProductoResponseDTO.class)
+      )
+  )
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> listarTodosStream() {
+    StreamingResponseBody cuerpo = salida ->
+        productoService.recorrerTodos(producto -> escribirLinea(salida, producto));
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(cuerpo);
   }
 
   @Operation(
@@ -92,6 +170,11 @@ public class ProductoController {
               )
           )
       ),
+      @ApiResponse(
+          responseCode = "304",
+          description = "El producto no cambió desde la versión indicada en If-None-Match o la fecha de If-Modified-Since; no se envía cuerpo",
+          content = @Content
+      ),
       @ApiResponse(
           responseCode = "404",
           description = "No se encontró ningún producto con el ID especificado",
@@ -116,9 +199,93 @@ public class ProductoController {
           required = true,
           example = "1"
       )
-      @PathVariable Long id) {
+      @PathVariable Long id,
+      WebRequest request) {
+    if (esCondicional(request)) {
+      VersionProducto version = productoService.obtenerVersion(id);
+      if (request.checkNotModified(version.etag(), version.ultimaModificacionMillis())) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(version.etag()).build();
+      }
+    }
+
     ProductoResponseDTO producto = productoService.obtenerPorId(id);
-    return ResponseEntity.ok(producto);
+    ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok()
+        .eTag(VersionProducto.etag(producto.getVersion(), producto.getStock()));
+    if (producto.getUltimaModificacion() != null) {
+      respuesta.lastModified(producto.getUltimaModificacion());
+    }
+    return respuesta.body(producto);
+  }
+
+  @Operation(
+      summary = "Obtener varios productos por ID",
+      description = "Recupera en una sola solicitud los productos cuyos IDs se envían separados por coma. " +
+          "Los productos se devuelven en el orden pedido, los IDs repetidos se ignoran y los que no existen " +
+          "se informan en 'faltantes' sin que la solicitud falle."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Productos encontrados e IDs inexistentes",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProductosPorIdDTO.class),
+              examples = @ExampleObject(
+                  name = "Productos por ID",
+                  value = "{\"productos\":[{\"id\":2,\"nombre\":\"Remera Nike Deportiva\",\"descripcion\":\"Remera deportiva talle M\",\"precio\":8500.50,\"stock\":100,\"categoria\":\"ROPA\"},{\"id\":1,\"nombre\":\"Laptop Dell Inspiron 15\",\"descripcion\":\"Laptop con procesador Intel Core i5\",\"precio\":45999.99,\"stock\":25,\"categoria\":\"ELECTRONICA\"}],\"faltantes\":[999]}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Algún ID no tiene un formato válido o se superó la cantidad máxima de IDs por solicitud",
+          content = @Content
+      )
+  })
+  @GetMapping(params = "ids")
+  public ResponseEntity<ProductosPorIdDTO> obtenerVarios(
+      @Parameter(
+          description = "IDs de los productos separados por coma",
+          required = true,
+          example = "2,1,999"
+      )
+      @RequestParam List<Long> ids) {
+    return ResponseEntity.ok(productoService.obtenerVarios(ids));
+  }
+
+  @Operation(
+      summary = "Obtener varios productos por ID (cuerpo JSON)",
+      description = "Variante de la consulta por lista de IDs que recibe los IDs como un arreglo JSON en el cuerpo, " +
+          "para listas que no entran cómodamente en la URL. Responde igual que GET /api/productos?ids=..."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Productos encontrados e IDs inexistentes",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProductosPorIdDTO.class)
+          )
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "El cuerpo no es un arreglo de IDs o se superó la cantidad máxima de IDs por solicitud",
+          content = @Content
+      )
+  })
+  @PostMapping("/multiple")
+  public ResponseEntity<ProductosPorIdDTO> obtenerVariosPorCuerpo(
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Arreglo JSON con los IDs de los productos",
+          required = true,
+          content = @Content(
+              mediaType = "application/json",
+              array = @ArraySchema(schema = @Schema(implementation = Long.class)),
+              examples = @ExampleObject(name = "IDs", value = "[2,1,999]")
+          )
+      )
+      @RequestBody List<Long> ids) {
+    return ResponseEntity.ok(productoService.obtenerVarios(ids));
   }
 
   @Operation(
@@ -140,6 +307,11 @@ public class ProductoController {
               )
           )
       ),
+      @ApiResponse(
+          responseCode = "304",
+          description = "Ningún producto de la categoría cambió desde la versión indicada en If-None-Match; no se envía cuerpo",
+          content = @Content
+      ),
       @ApiResponse(
           responseCode = "400",
           description = "La categoría proporcionada no es válida o no existe en el sistema. Valores permitidos: ELECTRONICA, ROPA, ALIMENTOS, HOGAR, DEPORTES",
@@ -160,9 +332,110 @@ public class ProductoController {
           example = "ELECTRONICA",
           schema = @Schema(allowableValues = {"ELECTRONICA", "ROPA", "ALIMENTOS", "HOGAR", "DEPORTES"})
       )
-      @PathVariable String categoria) {
-    List<ProductoResponseDTO> productos = productoService.obtenerPorCategoria(
-        Categoria.valueOf(categoria));
+      @PathVariable String categoria,
+      WebRequest request) {
+    Categoria valor = Categoria.valueOf(categoria);
+    String etag = productoService.versionCategoria(valor);
+    if (request.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    List<ProductoResponseDTO> productos = productoService.obtenerPorCategoria(valor);
+    return ResponseEntity.ok().eTag(etag).body(productos);
+  }
+
+  @Operation(hidden = true)
+  @GetMapping(value = "/categoria/{categoria}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<byte[]> filtrarPorCategoriaJson(
+      @PathVariable String categoria,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String codificaciones,
+      WebRequest request) {
+    Categoria valor = Categoria.valueOf(categoria);
+    boolean gzip = aceptaGzip(codificaciones);
+    String version = productoService.versionCategoria(valor);
+    String etag = gzip ? version.substring(0, version.length() - 1) + "-gzip\"" : version;
+    if (request.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+    }
+
+    RespuestaSerializada respuesta = productoService.obtenerPorCategoriaSerializada(valor, version);
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(etag)
+        .varyBy(HttpHeaders.ACCEPT_ENCODING);
+    if (!gzip) {
+      return builder.body(respuesta.json());
+    }
+    return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(respuesta.gzip());
+  }
+
+  @Operation(
+      summary = "Filtrar y ordenar productos",
+      description = "Busca productos combinando categoría, rango de precios, disponibilidad de stock y prefijo del nombre, " +
+          "con el orden indicado. El filtrado y el ordenamiento se resuelven en la base de datos sobre índices " +
+          "por categoría y precio, categoría e ID y nombre, por lo que no es necesario descargar categorías completas. " +
+          "Todos los filtros son opcionales."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Productos que cumplen los criterios, en el orden solicitado. Puede ser una lista vacía.",
+          content = @Content(
+              mediaType = "application/json",
+              array = @ArraySchema(schema = @Schema(implementation = ProductoResponseDTO.class)),
+              examples = @ExampleObject(
+                  name = "Electrónica entre $1.000 y $50.000 con stock",
+                  value = "[{\"id\":3,\"nombre\":\"Mouse Logitech\",\"descripcion\":\"Mouse inalámbrico\",\"precio\":3500.00,\"stock\":50,\"categoria\":\"ELECTRONICA\"},{\"id\":1,\"nombre\":\"Laptop Dell Inspiron 15\",\"descripcion\":\"Laptop con procesador Intel Core i5\",\"precio\":45999.99,\"stock\":25,\"categoria\":\"ELECTRONICA\"}]"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Algún criterio es inválido: precio negativo, precio mínimo mayor al máximo, categoría u orden inexistente o límite fuera de rango",
+          content = @Content
+      )
+  })
+  @GetMapping("/filtro")
+  public ResponseEntity<List<ProductoResponseDTO>> filtrar(@ParameterObject @Valid FiltroProductosDTO filtro) {
+    List<ProductoResponseDTO> productos = productoService.filtrar(filtro);
+    return ResponseEntity.ok(productos);
+  }
+
+  @Operation(
+      summary = "Buscar productos por texto",
+      description = "Busca productos cuyo nombre o descripción contengan los términos indicados, ordenados por relevancia. " +
+          "Las coincidencias en el nombre pesan más que en la descripción y los términos poco frecuentes más que los comunes. " +
+          "No distingue mayúsculas ni acentos, acepta prefijos ('lapt' encuentra 'laptop') y tolera errores de tipeo " +
+          "en términos de cuatro o más caracteres. El índice se mantiene actualizado con cada alta, modificación y baja. " +
+          "Si el índice está deshabilitado o todavía se está construyendo, se buscan en la base los productos cuyo nombre " +
+          "o descripción contienen todos los términos, ordenados por ID."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Productos encontrados, del más al menos relevante. Puede ser una lista vacía.",
+          content = @Content(
+              mediaType = "application/json",
+              array = @ArraySchema(schema = @Schema(implementation = ProductoResponseDTO.class)),
+              examples = @ExampleObject(
+                  name = "Búsqueda de 'laptop dell'",
+                  value = "[{\"id\":1,\"nombre\":\"Laptop Dell Inspiron 15\",\"descripcion\":\"Laptop con procesador Intel Core i5\",\"precio\":45999.99,\"stock\":25,\"categoria\":\"ELECTRONICA\"}]"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "La consulta está vacía o el límite está fuera del rango permitido",
+          content = @Content
+      )
+  })
+  @GetMapping("/search")
+  public ResponseEntity<List<ProductoResponseDTO>> buscar(
+      @Parameter(description = "Texto a buscar en el nombre y la descripción", required = true, example = "laptop dell")
+      @RequestParam String q,
+      @Parameter(description = "Cantidad máxima de resultados", example = "20")
+      @RequestParam(required = false) Integer limite) {
+    List<ProductoResponseDTO> productos = productoService.buscar(q, limite);
     return ResponseEntity.ok(productos);
   }
 
@@ -200,12 +473,21 @@ public class ProductoController {
       ),
       @ApiResponse(
           responseCode = "409",
-          description = "Conflicto: Ya existe un producto con datos únicos similares (por ejemplo, mismo nombre)",
+          description = "Conflicto: Ya existe un producto con datos únicos similares (por ejemplo, mismo nombre), " +
+              "o la solicitud con la misma Idempotency-Key sigue en curso",
+          content = @Content
+      ),
+      @ApiResponse(
+          responseCode = "422",
+          description = "La Idempotency-Key ya se usó con un cuerpo de solicitud distinto",
           content = @Content
       )
   })
   @PostMapping
   public ResponseEntity<ProductoResponseDTO> crearProducto(
+      @Parameter(description = "Clave opcional para reintentar la creación sin duplicar el producto; " +
+          "una repetición devuelve la respuesta original con el encabezado Idempotent-Replayed: true")
+      @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String claveIdempotencia,
       @io.swagger.v3.oas.annotations.parameters.RequestBody(
           description = "Datos del producto a crear. Todos los campos marcados como obligatorios deben ser proporcionados.",
           required = true,
@@ -219,8 +501,8 @@ public class ProductoController {
           )
       )
       @Valid @RequestBody ProductoDTO productoDTO) {
-    ProductoResponseDTO nuevoProducto = productoService.crearProducto(productoDTO);
-    return ResponseEntity.status(HttpStatus.CREATED).body(nuevoProducto);
+    return idempotente(claveIdempotencia, "POST /api/productos", productoDTO, HttpStatus.CREATED,
+        () -> productoService.crearProducto(productoDTO));
   }
 
   @Operation(
@@ -332,6 +614,16 @@ public class ProductoController {
                   value = "{\"errores\":{\"stock\":\"El stock no puede ser inferior a 0\"},\"timestamp\":\"2025-11-13T10:30:00\"}"
               )
           )
+      ),
+      @ApiResponse(
+          responseCode = "409",
+          description = "La solicitud con la misma Idempotency-Key sigue en curso",
+          content = @Content
+      ),
+      @ApiResponse(
+          responseCode = "422",
+          description = "La Idempotency-Key ya se usó con un cuerpo de solicitud distinto",
+          content = @Content
       )
   })
   @PatchMapping("/{id}/stock")
@@ -342,6 +634,9 @@ public class ProductoController {
           example = "1"
       )
       @PathVariable Long id,
+      @Parameter(description = "Clave opcional para reintentar la actualización; " +
+          "una repetición devuelve la respuesta original con el encabezado Idempotent-Replayed: true")
+      @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String claveIdempotencia,
       @io.swagger.v3.oas.annotations.parameters.RequestBody(
           description = "Nueva cantidad de stock para el producto. Debe ser un valor entero no negativo.",
           required = true,
@@ -355,8 +650,100 @@ public class ProductoController {
           )
       )
       @Valid @RequestBody ActualizarStockDTO stockDTO) {
-    ProductoResponseDTO productoActualizado = productoService.actualizarStock(id, stockDTO);
-    return ResponseEntity.ok(productoActualizado);
+    return idempotente(claveIdempotencia, "PATCH /api/productos/" + id + "/stock", stockDTO, HttpStatus.OK,
+        () -> productoService.actualizarStock(id, stockDTO));
+  }
+
+  @Operation(
+      summary = "Reservar stock del producto",
+      description = "Descuenta de forma atómica la cantidad indicada del stock del producto. " +
+          "La operación se resuelve en una única actualización condicional en la base de datos, por lo que " +
+          "reservas concurrentes sobre el mismo producto nunca pierden actualizaciones ni dejan el stock negativo."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Stock reservado exitosamente. Retorna el producto con el stock restante.",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProductoResponseDTO.class)
+          )
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "La cantidad es inválida o el stock disponible no alcanza para cubrirla",
+          content = @Content(
+              mediaType = "application/json",
+              examples = @ExampleObject(
+                  name = "Stock insuficiente",
+                  value = "{\"exception\":\"com.utn.productos_api.exceptions.StockInsuficienteException\",\"message\":\"Stock insuficiente para el producto con el id: 1. Cantidad solicitada: 30\",\"status\":400,\"path\":\"/api/productos/1/stock/reservar\",\"error\":\"BAD_REQUEST\"}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "404",
+          description = "No se encontró ningún producto con el ID especificado",
+          content = @Content
+      )
+  })
+  @PostMapping("/{id}/stock/reservar")
+  public ResponseEntity<ProductoResponseDTO> reservarStock(
+      @Parameter(description = "ID del producto cuyo stock se reservará", required = true, example = "1")
+      @PathVariable Long id,
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Cantidad de unidades a reservar",
+          required = true,
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = MovimientoStockDTO.class),
+              examples = @ExampleObject(name = "Reserva de stock", value = "{\"cantidad\":2}")
+          )
+      )
+      @Valid @RequestBody MovimientoStockDTO movimientoDTO) {
+    ProductoResponseDTO producto = productoService.reservarStock(id, movimientoDTO.getCantidad());
+    return ResponseEntity.ok(producto);
+  }
+
+  @Operation(
+      summary = "Liberar stock del producto",
+      description = "Devuelve de forma atómica la cantidad indicada al stock del producto, por ejemplo al cancelar una reserva."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Stock liberado exitosamente. Retorna el producto con el stock actualizado.",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProductoResponseDTO.class)
+          )
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "La cantidad es inválida",
+          content = @Content
+      ),
+      @ApiResponse(
+          responseCode = "404",
+          description = "No se encontró ningún producto con el ID especificado",
+          content = @Content
+      )
+  })
+  @PostMapping("/{id}/stock/liberar")
+  public ResponseEntity<ProductoResponseDTO> liberarStock(
+      @Parameter(description = "ID del producto cuyo stock se liberará", required = true, example = "1")
+      @PathVariable Long id,
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Cantidad de unidades a liberar",
+          required = true,
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = MovimientoStockDTO.class),
+              examples = @ExampleObject(name = "Liberación de stock", value = "{\"cantidad\":2}")
+          )
+      )
+      @Valid @RequestBody MovimientoStockDTO movimientoDTO) {
+    ProductoResponseDTO producto = productoService.liberarStock(id, movimientoDTO.getCantidad());
+    return ResponseEntity.ok(producto);
   }
 
   @Operation(
@@ -407,4 +794,45 @@ public class ProductoController {
     productoService.eliminarProducto(id);
     return ResponseEntity.noContent().build();
   }
-}
\ No newline at end of file
+
+  private static boolean esCondicional(WebRequest request) {
+    return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+        || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+  }
+
+  private static boolean aceptaGzip(String codificaciones) {
+    if (codificaciones == null) {
+      return false;
+    }
+    for (String codificacion : codificaciones.split(",")) {
+      String[] partes = codificacion.split(";");
+      if (!partes[0].trim().equalsIgnoreCase("gzip")) {
+        continue;
+      }
+      return partes.length == 1 || !partes[1].replace(" ", "").matches("q=0(\\.0*)?");
+    }
+    return false;
+  }
+
+  private void escribirLinea(OutputStream salida, ProductoResponseDTO producto) {
+    try {
+      salida.write(objectMapper.writeValueAsBytes(producto));
+      salida.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ResponseEntity<ProductoResponseDTO> idempotente(String clave, String operacion, Object solicitud,
+      HttpStatus estado, Supplier<ProductoResponseDTO> accion) {
+    if (clave == null) {
+      return ResponseEntity.status(estado).body(accion.get());
+    }
+
+    ResultadoIdempotente<ProductoResponseDTO> resultado =
+        idempotencia.ejecutar(clave, operacion, solicitud, ProductoResponseDTO.class, accion);
+    return ResponseEntity.status(estado)
+        .header(IDEMPOTENT_REPLAYED, String.valueOf(resultado.repetido()))
+        .body(resultado.valor());
+  }
+}
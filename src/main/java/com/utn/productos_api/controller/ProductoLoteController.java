@@ -0,0 +1,175 @@
+package com.utn.productos_api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.dto.ActualizarProductoLoteDTO;
+import com.utn.productos_api.dto.ActualizarStockLoteDTO;
+import com.utn.productos_api.dto.ProductoDTO;
+import com.utn.productos_api.dto.ResultadoLoteDTO;
+import com.utn.productos_api.exceptions.ParametroInvalidoException;
+import com.utn.productos_api.service.LectorLineas;
+import com.utn.productos_api.service.ProductoLoteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/productos/bulk")
+@Tag(
+    name = "Operaciones Masivas de Productos",
+    description = "Alta, actualización y ajuste de stock de muchos productos en una sola solicitud. " +
+        "Cada elemento se valida de forma individual y la respuesta informa el resultado de cada uno, " +
+        "por lo que un elemento inválido no impide procesar el resto."
+)
+public class ProductoLoteController {
+  private final ProductoLoteService productoLoteService;
+  private final ObjectMapper objectMapper;
+  private final int maximoItems;
+
+  public ProductoLoteController(ProductoLoteService productoLoteService, ObjectMapper objectMapper,
+      @Value("${productos.lote.maximo-items:50000}") int maximoItems) {
+    this.productoLoteService = productoLoteService;
+    this.objectMapper = objectMapper;
+    this.maximoItems = maximoItems;
+  }
+
+  @Operation(
+      summary = "Crear productos en forma masiva",
+      description = "Registra todos los productos recibidos. Acepta un arreglo JSON o un flujo NDJSON " +
+          "(Content-Type: application/x-ndjson) con un producto por línea."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Solicitud procesada. El detalle indica qué elementos se crearon y cuáles fueron rechazados.",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ResultadoLoteDTO.class),
+              examples = @ExampleObject(
+                  name = "Resultado parcial",
+                  value = "{\"total\":2,\"exitosos\":1,\"fallidos\":1,\"items\":[{\"indice\":0,\"id\":51,\"estado\":\"CREADO\",\"errores\":null},{\"indice\":1,\"id\":null,\"estado\":\"ERROR\",\"errores\":[\"precio: El precio no puede ser nulo\"]}]}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "La solicitud está vacía o supera la cantidad máxima de elementos permitida",
+          content = @Content
+      )
+  })
+  @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ResultadoLoteDTO> crearProductos(
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Arreglo de productos a crear",
+          required = true,
+          content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProductoDTO.class)))
+      )
+      @RequestBody List<ProductoDTO> productos) {
+    return ResponseEntity.ok(productoLoteService.crearProductos(productos));
+  }
+
+  @Operation(summary = "Crear productos en forma masiva desde NDJSON")
+  @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<ResultadoLoteDTO> crearProductosNdjson(InputStream cuerpo) throws IOException {
+    return ResponseEntity.ok(productoLoteService.crearProductos(leerNdjson(cuerpo, ProductoDTO.class)));
+  }
+
+  @Operation(
+      summary = "Actualizar productos en forma masiva",
+      description = "Reemplaza los datos de cada producto indicado por su ID. Acepta un arreglo JSON o un flujo NDJSON. " +
+          "Los IDs inexistentes se informan como error sin afectar al resto de los elementos."
+  )
+  @ApiResponse(
+      responseCode = "200",
+      description = "Solicitud procesada con el resultado de cada elemento",
+      content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResultadoLoteDTO.class))
+  )
+  @PutMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ResultadoLoteDTO> actualizarProductos(
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Arreglo de productos a actualizar, cada uno con su ID",
+          required = true,
+          content = @Content(array = @ArraySchema(schema = @Schema(implementation = ActualizarProductoLoteDTO.class)))
+      )
+      @RequestBody List<ActualizarProductoLoteDTO> productos) {
+    return ResponseEntity.ok(productoLoteService.actualizarProductos(productos));
+  }
+
+  @Operation(summary = "Actualizar productos en forma masiva desde NDJSON")
+  @PutMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<ResultadoLoteDTO> actualizarProductosNdjson(InputStream cuerpo) throws IOException {
+    return ResponseEntity.ok(productoLoteService.actualizarProductos(leerNdjson(cuerpo, ActualizarProductoLoteDTO.class)));
+  }
+
+  @Operation(
+      summary = "Actualizar stock en forma masiva",
+      description = "Modifica únicamente el stock de cada producto indicado por su ID. Acepta un arreglo JSON o un flujo NDJSON."
+  )
+  @ApiResponse(
+      responseCode = "200",
+      description = "Solicitud procesada con el resultado de cada elemento",
+      content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResultadoLoteDTO.class))
+  )
+  @PatchMapping(value = "/stock", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ResultadoLoteDTO> actualizarStocks(
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "Arreglo de pares ID y stock nuevo",
+          required = true,
+          content = @Content(array = @ArraySchema(schema = @Schema(implementation = ActualizarStockLoteDTO.class)))
+      )
+      @RequestBody List<ActualizarStockLoteDTO> stocks) {
+    return ResponseEntity.ok(productoLoteService.actualizarStocks(stocks));
+  }
+
+  @Operation(summary = "Actualizar stock en forma masiva desde NDJSON")
+  @PatchMapping(value = "/stock", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<ResultadoLoteDTO> actualizarStocksNdjson(InputStream cuerpo) throws IOException {
+    return ResponseEntity.ok(productoLoteService.actualizarStocks(leerNdjson(cuerpo, ActualizarStockLoteDTO.class)));
+  }
+
+  private <T> List<T> leerNdjson(InputStream cuerpo, Class<T> tipo) throws IOException {
+    List<T> elementos = new ArrayList<>();
+    LectorLineas lector = new LectorLineas(new BufferedReader(new InputStreamReader(cuerpo, StandardCharsets.UTF_8)));
+    String linea;
+    while ((linea = lector.leer()) != null) {
+      if (lector.excedida()) {
+        throw new ParametroInvalidoException("Cada línea admite como máximo " + LectorLineas.MAXIMO_CARACTERES_LINEA + " caracteres");
+      }
+      if (linea.isBlank()) {
+        continue;
+      }
+      if (elementos.size() == maximoItems) {
+        throw new ParametroInvalidoException("La solicitud supera el máximo de " + maximoItems + " elementos");
+      }
+      try {
+        elementos.add(objectMapper.readValue(linea, tipo));
+      } catch (JsonProcessingException e) {
+        elementos.add(null);
+      }
+    }
+    return elementos;
+  }
+}
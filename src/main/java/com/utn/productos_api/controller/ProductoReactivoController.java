@@ -0,0 +1,100 @@
+package com.utn.productos_api.controller;
+
+import com.utn.productos_api.dto.ActualizarStockDTO;
+import com.utn.productos_api.dto.PaginaProductosDTO;
+import com.utn.productos_api.dto.ProductoDTO;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.service.ProductoReactivoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/productos")
+@Tag(
+    name = "Gestión de Productos (reactiva)",
+    description = "Variante no bloqueante de la API de productos sobre WebFlux y R2DBC. " +
+        "Expone los mismos recursos, validaciones y respuestas que la versión servlet; " +
+        "los listados se transmiten con contrapresión en lugar de armarse completos en memoria."
+)
+public class ProductoReactivoController {
+  private final ProductoReactivoService productoService;
+
+  public ProductoReactivoController(ProductoReactivoService productoService) {
+    this.productoService = productoService;
+  }
+
+  @Operation(summary = "Listar productos paginados")
+  @GetMapping
+  public Mono<PaginaProductosDTO> listarTodos(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limite) {
+    return productoService.obtenerPagina(cursor, limite);
+  }
+
+  @Operation(summary = "Listar todos los productos como flujo NDJSON")
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<ProductoResponseDTO> listarTodosStream() {
+    return productoService.obtenerTodos();
+  }
+
+  @Operation(summary = "Obtener producto por ID")
+  @GetMapping("/{id}")
+  public Mono<ProductoResponseDTO> obtenerPorId(@PathVariable Long id) {
+    return productoService.obtenerPorId(id);
+  }
+
+  @Operation(summary = "Filtrar productos por categoría")
+  @GetMapping("/categoria/{categoria}")
+  public Flux<ProductoResponseDTO> filtrarPorCategoria(@PathVariable String categoria) {
+    return productoService.obtenerPorCategoria(Categoria.valueOf(categoria));
+  }
+
+  @Operation(summary = "Crear nuevo producto")
+  @PostMapping
+  public Mono<ResponseEntity<ProductoResponseDTO>> crearProducto(@Valid @RequestBody ProductoDTO productoDTO) {
+    return productoService.crearProducto(productoDTO)
+        .map(nuevoProducto -> ResponseEntity.status(HttpStatus.CREATED).body(nuevoProducto));
+  }
+
+  @Operation(summary = "Actualizar producto completo")
+  @PutMapping("/{id}")
+  public Mono<ProductoResponseDTO> actualizarProducto(
+      @PathVariable Long id,
+      @Valid @RequestBody ProductoDTO productoDTO) {
+    return productoService.actualizarProducto(id, productoDTO);
+  }
+
+  @Operation(summary = "Actualizar stock del producto")
+  @PatchMapping("/{id}/stock")
+  public Mono<ProductoResponseDTO> actualizarStock(
+      @PathVariable Long id,
+      @Valid @RequestBody ActualizarStockDTO stockDTO) {
+    return productoService.actualizarStock(id, stockDTO);
+  }
+
+  @Operation(summary = "Eliminar producto")
+  @DeleteMapping("/{id}")
+  public Mono<ResponseEntity<Void>> eliminarProducto(@PathVariable Long id) {
+    return productoService.eliminarProducto(id)
+        .thenReturn(ResponseEntity.noContent().<Void>build());
+  }
+}
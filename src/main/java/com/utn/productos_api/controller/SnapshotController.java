@@ -0,0 +1,44 @@
+package com.utn.productos_api.controller;
+
+import com.utn.productos_api.dto.ResultadoSnapshotDTO;
+import com.utn.productos_api.snapshot.SnapshotCatalogo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/productos/snapshot")
+@Tag(
+    name = "Snapshot del Catálogo",
+    description = "Exportación del catálogo completo a un archivo CSV que se importa en bloque al iniciar con el perfil persistente"
+)
+public class SnapshotController {
+  private final SnapshotCatalogo snapshotCatalogo;
+
+  public SnapshotController(SnapshotCatalogo snapshotCatalogo) {
+    this.snapshotCatalogo = snapshotCatalogo;
+  }
+
+  @Operation(
+      summary = "Exportar snapshot del catálogo",
+      description = "Escribe todos los productos en el archivo configurado en productos.snapshot.archivo, " +
+          "reemplazando el snapshot anterior."
+  )
+  @ApiResponse(
+      responseCode = "200",
+      description = "Snapshot exportado",
+      content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResultadoSnapshotDTO.class))
+  )
+  @PostMapping
+  public ResponseEntity<ResultadoSnapshotDTO> exportar() {
+    return ResponseEntity.ok(snapshotCatalogo.exportar());
+  }
+}
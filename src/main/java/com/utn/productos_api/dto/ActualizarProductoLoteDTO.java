@@ -0,0 +1,16 @@
+package com.utn.productos_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Schema(description = "Elemento de una actualización masiva: ID del producto existente junto con todos sus datos nuevos")
+public class ActualizarProductoLoteDTO extends ProductoDTO {
+
+  @Schema(description = "ID del producto a actualizar", example = "1", required = true)
+  @NotNull(message = "El id no puede ser nulo")
+  Long id;
+}
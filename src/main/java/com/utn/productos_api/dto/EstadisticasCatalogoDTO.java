@@ -0,0 +1,19 @@
+package com.utn.productos_api.dto;
+
+import com.utn.productos_api.model.Categoria;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Estadísticas de inventario del catálogo completo y de cada categoría")
+public class EstadisticasCatalogoDTO {
+
+  @Schema(description = "Estadísticas de todos los productos")
+  EstadisticasDTO general;
+
+  @Schema(description = "Estadísticas de cada categoría")
+  Map<Categoria, EstadisticasDTO> porCategoria;
+}
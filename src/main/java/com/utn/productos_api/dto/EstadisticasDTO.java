@@ -0,0 +1,32 @@
+package com.utn.productos_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Estadísticas agregadas de inventario de un conjunto de productos")
+public class EstadisticasDTO {
+
+  @Schema(description = "Cantidad de productos", example = "1250")
+  Long cantidad;
+
+  @Schema(description = "Unidades en stock sumando todos los productos", example = "48210")
+  Long stockTotal;
+
+  @Schema(description = "Valor del inventario: suma de precio por stock", example = "18345210.5")
+  Double valorStock;
+
+  @Schema(description = "Precio mínimo, nulo si no hay productos", example = "0.99", nullable = true)
+  Double precioMinimo;
+
+  @Schema(description = "Precio máximo, nulo si no hay productos", example = "45999.99", nullable = true)
+  Double precioMaximo;
+
+  @Schema(description = "Precio promedio, nulo si no hay productos", example = "1530.4", nullable = true)
+  Double precioPromedio;
+
+  @Schema(description = "Cantidad de productos sin stock", example = "37")
+  Long sinStock;
+}
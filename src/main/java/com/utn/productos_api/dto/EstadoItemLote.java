@@ -0,0 +1,7 @@
+package com.utn.productos_api.dto;
+
+public enum EstadoItemLote {
+  CREADO,
+  ACTUALIZADO,
+  ERROR
+}
@@ -0,0 +1,32 @@
+package com.utn.productos_api.dto;
+
+import com.utn.productos_api.events.TipoModificacion;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cambio de un producto publicado a los sistemas externos")
+public class EventoProductoDTO {
+
+  @Schema(description = "Identificador creciente del evento, usado como Last-Event-ID para retomar el flujo", example = "1051")
+  Long id;
+
+  @Schema(description = "Tipo de cambio", example = "STOCK_ACTUALIZADO")
+  TipoModificacion tipo;
+
+  @Schema(description = "ID del producto modificado", example = "1")
+  Long productoId;
+
+  @Schema(description = "Estado del producto después del cambio, o el último estado conocido si fue eliminado")
+  ProductoResponseDTO producto;
+
+  @Schema(description = "Momento en que se registró el cambio", example = "2025-11-13T10:30:00Z")
+  Instant fecha;
+}
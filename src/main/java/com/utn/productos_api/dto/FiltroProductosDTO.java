@@ -0,0 +1,53 @@
+package com.utn.productos_api.dto;
+
+import com.utn.productos_api.model.Categoria;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Criterios de búsqueda de productos. Todos los filtros son opcionales y se combinan entre sí.")
+public class FiltroProductosDTO {
+
+  @Schema(
+      description = "Categoría a la que deben pertenecer los productos",
+      example = "ELECTRONICA",
+      allowableValues = {"ELECTRONICA", "ROPA", "ALIMENTOS", "HOGAR", "DEPORTES"}
+  )
+  Categoria categoria;
+
+  @Schema(description = "Precio mínimo, inclusive", example = "1000", type = "number", format = "double")
+  @DecimalMin(value = "0", message = "El precio mínimo no puede ser negativo")
+  Double precioMinimo;
+
+  @Schema(description = "Precio máximo, inclusive", example = "50000", type = "number", format = "double")
+  @DecimalMin(value = "0", message = "El precio máximo no puede ser negativo")
+  Double precioMaximo;
+
+  @Schema(description = "Si es verdadero, solo se devuelven productos con stock mayor a cero", example = "true")
+  Boolean conStock;
+
+  @Schema(
+      description = "Prefijo con el que debe comenzar el nombre del producto. Distingue mayúsculas y minúsculas.",
+      example = "Laptop"
+  )
+  @Size(max = 100, message = "El prefijo del nombre no puede superar los 100 caracteres")
+  String nombre;
+
+  @Schema(description = "Campo por el que se ordenan los resultados", example = "PRECIO", defaultValue = "ID")
+  OrdenProducto ordenarPor;
+
+  @Schema(description = "Sentido del ordenamiento", example = "ASC", defaultValue = "ASC")
+  Sort.Direction direccion;
+
+  @Schema(description = "Cantidad máxima de productos a devolver", example = "50", type = "integer")
+  Integer limite;
+}
@@ -0,0 +1,24 @@
+package com.utn.productos_api.dto;
+
+import org.springframework.http.MediaType;
+
+public enum FormatoCatalogo {
+  CSV(new MediaType("text", "csv"), "csv"),
+  NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+  private final MediaType mediaType;
+  private final String extension;
+
+  FormatoCatalogo(MediaType mediaType, String extension) {
+    this.mediaType = mediaType;
+    this.extension = extension;
+  }
+
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+}
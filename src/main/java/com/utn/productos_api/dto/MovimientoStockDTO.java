@@ -0,0 +1,22 @@
+package com.utn.productos_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@Schema(description = "DTO para reservar o liberar unidades de stock de un producto de forma atómica, indicando solo la cantidad a mover.")
+public class MovimientoStockDTO {
+
+  @Schema(
+      description = "Cantidad de unidades a reservar o liberar. Debe ser un número entero mayor a cero.",
+      example = "2",
+      required = true,
+      minimum = "1",
+      type = "integer"
+  )
+  @NotNull(message = "La cantidad no puede ser nula")
+  @Min(value = 1, message = "La cantidad debe ser mayor a 0")
+  Integer cantidad;
+}
@@ -0,0 +1,18 @@
+package com.utn.productos_api.dto;
+
+public enum OrdenProducto {
+  ID("id"),
+  PRECIO("precio"),
+  NOMBRE("nombre"),
+  STOCK("stock");
+
+  private final String atributo;
+
+  OrdenProducto(String atributo) {
+    this.atributo = atributo;
+  }
+
+  public String getAtributo() {
+    return atributo;
+  }
+}
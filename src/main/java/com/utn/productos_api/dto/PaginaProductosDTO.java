@@ -0,0 +1,29 @@
+package com.utn.productos_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Página de productos ordenada por ID. Para obtener la página siguiente se debe enviar el cursor recibido en 'siguienteCursor'.")
+public class PaginaProductosDTO {
+
+  @Schema(description = "Productos de la página actual, ordenados por ID ascendente")
+  List<ProductoResponseDTO> productos;
+
+  @Schema(
+      description = "Cursor opaco para solicitar la página siguiente. Es nulo cuando no existen más productos.",
+      example = "aWQ6NTA",
+      nullable = true
+  )
+  String siguienteCursor;
+
+  @Schema(
+      description = "Cantidad máxima de productos por página utilizada en la consulta",
+      example = "50",
+      type = "integer"
+  )
+  Integer limite;
+}
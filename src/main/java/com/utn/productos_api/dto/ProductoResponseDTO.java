@@ -1,12 +1,18 @@
 package com.utn.productos_api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.utn.productos_api.model.Categoria;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
-@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
 @Schema(description = "DTO de respuesta que contiene la información completa de un producto, incluyendo su ID generado por el sistema")
 public class ProductoResponseDTO {
 
@@ -51,4 +57,12 @@ public class ProductoResponseDTO {
       allowableValues = {"ELECTRONICA", "ROPA", "ALIMENTOS", "HOGAR", "DEPORTES"}
   )
   Categoria categoria;
+
+  @JsonIgnore
+  @Schema(hidden = true)
+  Long version;
+
+  @JsonIgnore
+  @Schema(hidden = true)
+  Instant ultimaModificacion;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.utn.productos_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Resultado de la consulta de varios productos por ID")
+public class ProductosPorIdDTO {
+
+  @Schema(description = "Productos encontrados, en el orden en que se pidieron sus IDs")
+  List<ProductoResponseDTO> productos;
+
+  @Schema(description = "IDs pedidos que no corresponden a ningún producto", example = "[999]")
+  List<Long> faltantes;
+}
@@ -0,0 +1,27 @@
+package com.utn.productos_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Resumen de la importación de un catálogo, con el detalle de los primeros elementos rechazados")
+public class ResultadoImportacionDTO {
+
+  @Schema(description = "Cantidad de registros leídos", example = "1000000")
+  Long total;
+
+  @Schema(description = "Cantidad de productos creados", example = "999000")
+  Long creados;
+
+  @Schema(description = "Cantidad de productos existentes actualizados", example = "990")
+  Long actualizados;
+
+  @Schema(description = "Cantidad de registros rechazados", example = "10")
+  Long fallidos;
+
+  @Schema(description = "Detalle de los primeros registros rechazados; el índice es la posición del registro comenzando en 0")
+  List<ResultadoItemLoteDTO> errores;
+}
@@ -0,0 +1,24 @@
+package com.utn.productos_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Resultado del procesamiento de un elemento dentro de una operación masiva")
+public class ResultadoItemLoteDTO {
+
+  @Schema(description = "Posición del elemento en la solicitud, comenzando en 0", example = "0")
+  Integer indice;
+
+  @Schema(description = "ID del producto creado o actualizado", example = "1", nullable = true)
+  Long id;
+
+  @Schema(description = "Estado final del elemento", example = "CREADO")
+  EstadoItemLote estado;
+
+  @Schema(description = "Errores de validación o de persistencia del elemento", nullable = true)
+  List<String> errores;
+}
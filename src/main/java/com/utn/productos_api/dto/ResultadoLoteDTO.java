@@ -0,0 +1,24 @@
+package com.utn.productos_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Resumen de una operación masiva con el resultado individual de cada elemento")
+public class ResultadoLoteDTO {
+
+  @Schema(description = "Cantidad de elementos recibidos", example = "3")
+  Integer total;
+
+  @Schema(description = "Cantidad de elementos procesados correctamente", example = "2")
+  Integer exitosos;
+
+  @Schema(description = "Cantidad de elementos rechazados", example = "1")
+  Integer fallidos;
+
+  @Schema(description = "Resultado de cada elemento, en el mismo orden de la solicitud")
+  List<ResultadoItemLoteDTO> items;
+}
@@ -0,0 +1,20 @@
+package com.utn.productos_api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Resumen de la exportación o importación de un snapshot del catálogo")
+public class ResultadoSnapshotDTO {
+
+  @Schema(description = "Archivo CSV del snapshot", example = "./data/snapshot/productos.csv")
+  String archivo;
+
+  @Schema(description = "Cantidad de productos exportados o importados", example = "1000000")
+  Long productos;
+
+  @Schema(description = "Duración de la operación en milisegundos", example = "4200")
+  Long duracionMs;
+}
@@ -0,0 +1,18 @@
+package com.utn.productos_api.dto;
+
+import java.time.Instant;
+
+public record VersionProducto(Long version, Integer stock, Instant ultimaModificacion) {
+
+  public static String etag(Long version, Integer stock) {
+    return "\"" + version + "-" + stock + "\"";
+  }
+
+  public String etag() {
+    return etag(version, stock);
+  }
+
+  public long ultimaModificacionMillis() {
+    return ultimaModificacion == null ? -1 : ultimaModificacion.toEpochMilli();
+  }
+}
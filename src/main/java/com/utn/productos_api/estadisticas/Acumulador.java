@@ -0,0 +1,81 @@
+package com.utn.productos_api.estadisticas;
+
+import com.utn.productos_api.dto.EstadisticasDTO;
+import java.util.Map;
+import java.util.TreeMap;
+
+final class Acumulador {
+
+  private static final double TOLERANCIA = 1e-6;
+
+  private long cantidad;
+  private long stockTotal;
+  private double valorStock;
+  private double sumaPrecios;
+  private long sinStock;
+  private final TreeMap<Double, Integer> precios = new TreeMap<>();
+
+  void agregar(double precio, int stock) {
+    cantidad++;
+    stockTotal += stock;
+    valorStock += precio * stock;
+    sumaPrecios += precio;
+    if (stock == 0) {
+      sinStock++;
+    }
+    precios.merge(precio, 1, Integer::sum);
+  }
+
+  void quitar(double precio, int stock) {
+    cantidad--;
+    stockTotal -= stock;
+    valorStock -= precio * stock;
+    sumaPrecios -= precio;
+    if (stock == 0) {
+      sinStock--;
+    }
+    precios.computeIfPresent(precio, (clave, veces) -> veces == 1 ? null : veces - 1);
+  }
+
+  Acumulador fusionar(Acumulador otro) {
+    cantidad += otro.cantidad;
+    stockTotal += otro.stockTotal;
+    valorStock += otro.valorStock;
+    sumaPrecios += otro.sumaPrecios;
+    sinStock += otro.sinStock;
+    for (Map.Entry<Double, Integer> precio : otro.precios.entrySet()) {
+      precios.merge(precio.getKey(), precio.getValue(), Integer::sum);
+    }
+    return this;
+  }
+
+  boolean coincideCon(Acumulador otro) {
+    return cantidad == otro.cantidad
+        && stockTotal == otro.stockTotal
+        && sinStock == otro.sinStock
+        && aproximado(valorStock, otro.valorStock)
+        && aproximado(sumaPrecios, otro.sumaPrecios)
+        && precios.equals(otro.precios);
+  }
+
+  EstadisticasDTO resumen() {
+    boolean vacio = precios.isEmpty();
+    return EstadisticasDTO.builder()
+        .cantidad(cantidad)
+        .stockTotal(stockTotal)
+        .valorStock(vacio ? 0.0 : valorStock)
+        .precioMinimo(vacio ? null : precios.firstKey())
+        .precioMaximo(vacio ? null : precios.lastKey())
+        .precioPromedio(vacio ? null : sumaPrecios / cantidad)
+        .sinStock(sinStock)
+        .build();
+  }
+
+  double sumaPrecios() {
+    return sumaPrecios;
+  }
+
+  private static boolean aproximado(double a, double b) {
+    return Math.abs(a - b) <= TOLERANCIA * Math.max(1.0, Math.max(Math.abs(a), Math.abs(b)));
+  }
+}
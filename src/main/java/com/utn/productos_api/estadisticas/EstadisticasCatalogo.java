@@ -0,0 +1,298 @@
+package com.utn.productos_api.estadisticas;
+
+import com.utn.productos_api.dto.EstadisticasCatalogoDTO;
+import com.utn.productos_api.dto.EstadisticasDTO;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.events.CatalogoImportadoEvent;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.exceptions.EstadisticasNoDisponiblesException;
+import com.utn.productos_api.model.Categoria;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class EstadisticasCatalogo implements MeterBinder {
+
+  private static final Logger log = LoggerFactory.getLogger(EstadisticasCatalogo.class);
+  private static final Categoria[] CATEGORIAS = Categoria.values();
+  private static final int INTENTOS_INICIALIZACION = 5;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Map<Categoria, Acumulador> acumuladores = new EnumMap<>(Categoria.class);
+  private long modificaciones;
+  private long enConfirmacion;
+  private boolean inicializadas;
+
+  private final AtomicLong coincidencias = new AtomicLong();
+  private final AtomicLong desvios = new AtomicLong();
+  private final AtomicLong inconclusas = new AtomicLong();
+  private volatile long duracionUltimaMs;
+
+  public EstadisticasCatalogo(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    for (Categoria categoria : CATEGORIAS) {
+      acumuladores.put(categoria, new Acumulador());
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public synchronized void confirmando(ProductoModificadoEvent evento) {
+    enConfirmacion++;
+  }
+
+  @Order(Ordered.LOWEST_PRECEDENCE - 1)
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void registrar(ProductoModificadoEvent evento) {
+    modificaciones++;
+    if (!inicializadas) {
+      return;
+    }
+    if (evento.anterior() != null) {
+      acumulador(evento.anterior()).quitar(precio(evento.anterior()), stock(evento.anterior()));
+    }
+    if (evento.actual() != null) {
+      acumulador(evento.actual()).agregar(precio(evento.actual()), stock(evento.actual()));
+    }
+  }
+
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+  public synchronized void confirmado(ProductoModificadoEvent evento) {
+    enConfirmacion--;
+  }
+
+  @EventListener
+  public void reiniciar(CatalogoImportadoEvent evento) {
+    synchronized (this) {
+      modificaciones++;
+      inicializadas = false;
+    }
+    verificar();
+  }
+
+  public synchronized EstadisticasCatalogoDTO obtener() {
+    validarInicializadas();
+    Map<Categoria, EstadisticasDTO> porCategoria = new EnumMap<>(Categoria.class);
+    for (Categoria categoria : CATEGORIAS) {
+      porCategoria.put(categoria, acumuladores.get(categoria).resumen());
+    }
+    return EstadisticasCatalogoDTO.builder()
+        .general(general(porCategoria))
+        .porCategoria(porCategoria)
+        .build();
+  }
+
+  public synchronized EstadisticasDTO obtener(Categoria categoria) {
+    validarInicializadas();
+    return acumuladores.get(categoria).resumen();
+  }
+
+  @Scheduled(initialDelay = 0, fixedDelayString = "${productos.estadisticas.intervalo-verificacion-ms:300000}")
+  public void verificar() {
+    for (int intento = 0; intento < INTENTOS_INICIALIZACION; intento++) {
+      if (verificarUnaVez() || estanInicializadas()) {
+        return;
+      }
+    }
+  }
+
+  private synchronized boolean estanInicializadas() {
+    return inicializadas;
+  }
+
+  private void validarInicializadas() {
+    if (!inicializadas) {
+      throw new EstadisticasNoDisponiblesException(
+          "Las estadísticas del catálogo todavía se están calculando, reintente en unos segundos");
+    }
+  }
+
+  private boolean verificarUnaVez() {
+    long inicio = System.nanoTime();
+    long modificacionesAntes;
+    synchronized (this) {
+      modificacionesAntes = modificaciones;
+    }
+
+    Acumulador[] recalculados = recalcular();
+
+    synchronized (this) {
+      duracionUltimaMs = (System.nanoTime() - inicio) / 1_000_000;
+      if (modificaciones != modificacionesAntes || enConfirmacion != 0) {
+        inconclusas.incrementAndGet();
+        return false;
+      }
+
+      boolean coinciden = true;
+      for (Categoria categoria : CATEGORIAS) {
+        if (!acumuladores.get(categoria).coincideCon(recalculados[categoria.ordinal()])) {
+          coinciden = false;
+          if (inicializadas) {
+            log.warn("Las estadísticas de {} no coinciden con la base: incrementales {}, recalculadas {}",
+                categoria, acumuladores.get(categoria).resumen(), recalculados[categoria.ordinal()].resumen());
+          }
+        }
+      }
+
+      if (coinciden) {
+        coincidencias.incrementAndGet();
+      } else if (inicializadas) {
+        desvios.incrementAndGet();
+      }
+      for (Categoria categoria : CATEGORIAS) {
+        acumuladores.put(categoria, recalculados[categoria.ordinal()]);
+      }
+      inicializadas = true;
+      return true;
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("productos.estadisticas.verificaciones", coincidencias, AtomicLong::get)
+        .tag("resultado", "coincide")
+        .description("Verificaciones en las que las estadísticas incrementales coincidieron con el recálculo")
+        .register(registry);
+    FunctionCounter.builder("productos.estadisticas.verificaciones", desvios, AtomicLong::get)
+        .tag("resultado", "desvio")
+        .description("Verificaciones que detectaron y corrigieron un desvío de las estadísticas incrementales")
+        .register(registry);
+    FunctionCounter.builder("productos.estadisticas.verificaciones", inconclusas, AtomicLong::get)
+        .tag("resultado", "inconclusa")
+        .description("Verificaciones descartadas porque hubo cambios durante el recálculo")
+        .register(registry);
+    Gauge.builder("productos.estadisticas.recalculo", this, estadisticas -> estadisticas.duracionUltimaMs / 1000.0)
+        .baseUnit("seconds")
+        .description("Duración del último recálculo completo de las estadísticas")
+        .register(registry);
+  }
+
+  private Acumulador[] recalcular() {
+    Columnas columnas = new Columnas();
+    jdbcTemplate.query("select precio, stock, categoria from producto", (RowCallbackHandler) fila ->
+        columnas.agregar(fila.getDouble(1), fila.getInt(2), Categoria.valueOf(fila.getString(3))));
+    return ForkJoinPool.commonPool().invoke(new Recalculo(columnas, 0, columnas.filas));
+  }
+
+  private Acumulador acumulador(ProductoResponseDTO producto) {
+    return acumuladores.get(producto.getCategoria());
+  }
+
+  private static double precio(ProductoResponseDTO producto) {
+    return producto.getPrecio() == null ? 0.0 : producto.getPrecio();
+  }
+
+  private static int stock(ProductoResponseDTO producto) {
+    return producto.getStock() == null ? 0 : producto.getStock();
+  }
+
+  private EstadisticasDTO general(Map<Categoria, EstadisticasDTO> porCategoria) {
+    long cantidad = 0;
+    long stockTotal = 0;
+    double valorStock = 0;
+    double sumaPrecios = 0;
+    long sinStock = 0;
+    Double minimo = null;
+    Double maximo = null;
+    for (Categoria categoria : CATEGORIAS) {
+      EstadisticasDTO estadisticas = porCategoria.get(categoria);
+      cantidad += estadisticas.getCantidad();
+      stockTotal += estadisticas.getStockTotal();
+      valorStock += estadisticas.getValorStock();
+      sumaPrecios += acumuladores.get(categoria).sumaPrecios();
+      sinStock += estadisticas.getSinStock();
+      if (estadisticas.getPrecioMinimo() != null) {
+        minimo = minimo == null ? estadisticas.getPrecioMinimo() : Math.min(minimo, estadisticas.getPrecioMinimo());
+        maximo = maximo == null ? estadisticas.getPrecioMaximo() : Math.max(maximo, estadisticas.getPrecioMaximo());
+      }
+    }
+
+    return EstadisticasDTO.builder()
+        .cantidad(cantidad)
+        .stockTotal(stockTotal)
+        .valorStock(valorStock)
+        .precioMinimo(minimo)
+        .precioMaximo(maximo)
+        .precioPromedio(cantidad == 0 ? null : sumaPrecios / cantidad)
+        .sinStock(sinStock)
+        .build();
+  }
+
+  private static final class Columnas {
+
+    private double[] precios = new double[1024];
+    private int[] stocks = new int[1024];
+    private byte[] categorias = new byte[1024];
+    private int filas;
+
+    private void agregar(double precio, int stock, Categoria categoria) {
+      if (filas == precios.length) {
+        precios = Arrays.copyOf(precios, filas * 2);
+        stocks = Arrays.copyOf(stocks, filas * 2);
+        categorias = Arrays.copyOf(categorias, filas * 2);
+      }
+      precios[filas] = precio;
+      stocks[filas] = stock;
+      categorias[filas] = (byte) categoria.ordinal();
+      filas++;
+    }
+  }
+
+  private static final class Recalculo extends RecursiveTask<Acumulador[]> {
+
+    private static final int UMBRAL = 50_000;
+
+    private final Columnas columnas;
+    private final int desde;
+    private final int hasta;
+
+    private Recalculo(Columnas columnas, int desde, int hasta) {
+      this.columnas = columnas;
+      this.desde = desde;
+      this.hasta = hasta;
+    }
+
+    @Override
+    protected Acumulador[] compute() {
+      if (hasta - desde <= UMBRAL) {
+        Acumulador[] parciales = new Acumulador[CATEGORIAS.length];
+        for (int c = 0; c < CATEGORIAS.length; c++) {
+          parciales[c] = new Acumulador();
+        }
+        for (int i = desde; i < hasta; i++) {
+          parciales[columnas.categorias[i]].agregar(columnas.precios[i], columnas.stocks[i]);
+        }
+        return parciales;
+      }
+
+      int medio = (desde + hasta) >>> 1;
+      Recalculo izquierda = new Recalculo(columnas, desde, medio);
+      izquierda.fork();
+      Acumulador[] derecha = new Recalculo(columnas, medio, hasta).compute();
+      Acumulador[] parciales = izquierda.join();
+      for (int c = 0; c < CATEGORIAS.length; c++) {
+        parciales[c].fusionar(derecha[c]);
+      }
+      return parciales;
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package com.utn.productos_api.events;
+
+public record CatalogoImportadoEvent(long productos) {
+}
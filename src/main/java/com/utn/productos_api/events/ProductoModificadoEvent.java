@@ -0,0 +1,40 @@
+package com.utn.productos_api.events;
+
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.model.Categoria;
+import java.util.EnumSet;
+import java.util.Set;
+
+public record ProductoModificadoEvent(
+    TipoModificacion tipo,
+    Long id,
+    ProductoResponseDTO anterior,
+    ProductoResponseDTO actual) {
+
+  public static ProductoModificadoEvent creado(ProductoResponseDTO actual) {
+    return new ProductoModificadoEvent(TipoModificacion.CREADO, actual.getId(), null, actual);
+  }
+
+  public static ProductoModificadoEvent actualizado(ProductoResponseDTO anterior, ProductoResponseDTO actual) {
+    return new ProductoModificadoEvent(TipoModificacion.ACTUALIZADO, actual.getId(), anterior, actual);
+  }
+
+  public static ProductoModificadoEvent stockActualizado(ProductoResponseDTO anterior, ProductoResponseDTO actual) {
+    return new ProductoModificadoEvent(TipoModificacion.STOCK_ACTUALIZADO, actual.getId(), anterior, actual);
+  }
+
+  public static ProductoModificadoEvent eliminado(ProductoResponseDTO anterior) {
+    return new ProductoModificadoEvent(TipoModificacion.ELIMINADO, anterior.getId(), anterior, null);
+  }
+
+  public Set<Categoria> categoriasAfectadas() {
+    Set<Categoria> categorias = EnumSet.noneOf(Categoria.class);
+    if (anterior != null && anterior.getCategoria() != null) {
+      categorias.add(anterior.getCategoria());
+    }
+    if (actual != null && actual.getCategoria() != null) {
+      categorias.add(actual.getCategoria());
+    }
+    return categorias;
+  }
+}
@@ -0,0 +1,8 @@
+package com.utn.productos_api.events;
+
+public enum TipoModificacion {
+  CREADO,
+  ACTUALIZADO,
+  STOCK_ACTUALIZADO,
+  ELIMINADO
+}
@@ -0,0 +1,7 @@
+package com.utn.productos_api.exceptions;
+
+public class CargaDemoradaException extends ExceptionManager {
+  public CargaDemoradaException(String message) {
+    super(message);
+  }
+}
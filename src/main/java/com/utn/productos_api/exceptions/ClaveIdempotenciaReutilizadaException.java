@@ -0,0 +1,7 @@
+package com.utn.productos_api.exceptions;
+
+public class ClaveIdempotenciaReutilizadaException extends ExceptionManager {
+  public ClaveIdempotenciaReutilizadaException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package com.utn.productos_api.exceptions;
+
+public class EstadisticasNoDisponiblesException extends ExceptionManager {
+  public EstadisticasNoDisponiblesException(String message) {
+    super(message);
+  }
+}
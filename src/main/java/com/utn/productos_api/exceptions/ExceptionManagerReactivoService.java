@@ -0,0 +1,38 @@
+package com.utn.productos_api.exceptions;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ExceptionManagerReactivoService {
+
+  private final MeterRegistry meterRegistry;
+
+  public ExceptionManagerReactivoService(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @ExceptionHandler(ExceptionManager.class)
+  @ResponseBody
+  public ResponseEntity<Map<String, Object>> handlerNotFoundException(ExceptionManager ex, ServerHttpRequest request) {
+    ExceptionManagerService.contarExcepcion(meterRegistry, ex);
+    return ExceptionManagerService.createExceptionResponse(ex, request.getPath().value(), ex.getMessage());
+  }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  @ResponseBody
+  public ResponseEntity<Map<String, Object>> handlerConflictoDeVersion(OptimisticLockingFailureException ex,
+      ServerHttpRequest request) {
+    ExceptionManagerService.contarExcepcion(meterRegistry, ex);
+    return ExceptionManagerService.createExceptionResponse(ex, request.getPath().value(),
+        ExceptionManagerService.MENSAJE_CONFLICTO_VERSION);
+  }
+}
@@ -1,8 +1,12 @@
 package com.utn.productos_api.exceptions;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -11,21 +15,53 @@ import java.util.HashMap;
 import java.util.Map;
 
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ExceptionManagerService {
   private static final Map<Class<? extends Exception>, HttpStatus> EXCEPTION_STATUS_MAP = new HashMap<>();
 
   static {
     EXCEPTION_STATUS_MAP.put(ProductoNoEncontradoException.class, HttpStatus.NOT_FOUND);
     EXCEPTION_STATUS_MAP.put(StockInsuficienteException.class, HttpStatus.BAD_REQUEST);
+    EXCEPTION_STATUS_MAP.put(ParametroInvalidoException.class, HttpStatus.BAD_REQUEST);
+    EXCEPTION_STATUS_MAP.put(ClaveIdempotenciaReutilizadaException.class, HttpStatus.UNPROCESSABLE_ENTITY);
+    EXCEPTION_STATUS_MAP.put(SolicitudEnCursoException.class, HttpStatus.CONFLICT);
+    EXCEPTION_STATUS_MAP.put(LimiteTasaExcedidoException.class, HttpStatus.TOO_MANY_REQUESTS);
+    EXCEPTION_STATUS_MAP.put(ServicioSobrecargadoException.class, HttpStatus.SERVICE_UNAVAILABLE);
+    EXCEPTION_STATUS_MAP.put(CargaDemoradaException.class, HttpStatus.SERVICE_UNAVAILABLE);
+    EXCEPTION_STATUS_MAP.put(EstadisticasNoDisponiblesException.class, HttpStatus.SERVICE_UNAVAILABLE);
+    EXCEPTION_STATUS_MAP.put(OptimisticLockingFailureException.class, HttpStatus.CONFLICT);
+    EXCEPTION_STATUS_MAP.put(ObjectOptimisticLockingFailureException.class, HttpStatus.CONFLICT);
+  }
+
+  static final String MENSAJE_CONFLICTO_VERSION =
+      "El producto fue modificado por otra solicitud; vuelva a leerlo y reintente";
+
+  private final MeterRegistry meterRegistry;
+
+  public ExceptionManagerService(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
   }
 
   @ExceptionHandler(ExceptionManager.class)
   @ResponseBody
   public ResponseEntity<Map<String, Object>> handlerNotFoundException(ExceptionManager ex, HttpServletRequest request) {
+    contarExcepcion(meterRegistry, ex);
     return createExceptionResponse(ex, request.getRequestURI(), ex.getMessage());
   }
 
-  private ResponseEntity<Map<String, Object>> createExceptionResponse(
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  @ResponseBody
+  public ResponseEntity<Map<String, Object>> handlerConflictoDeVersion(OptimisticLockingFailureException ex,
+      HttpServletRequest request) {
+    contarExcepcion(meterRegistry, ex);
+    return createExceptionResponse(ex, request.getRequestURI(), MENSAJE_CONFLICTO_VERSION);
+  }
+
+  static void contarExcepcion(MeterRegistry meterRegistry, Exception exception) {
+    meterRegistry.counter("productos.errores", "tipo", exception.getClass().getSimpleName()).increment();
+  }
+
+  static ResponseEntity<Map<String, Object>> createExceptionResponse(
       Exception exception, String path, Object message) {
     HttpStatus status = EXCEPTION_STATUS_MAP.getOrDefault(exception.getClass(), HttpStatus.INTERNAL_SERVER_ERROR);
 
@@ -0,0 +1,7 @@
+package com.utn.productos_api.exceptions;
+
+public class LimiteTasaExcedidoException extends ExceptionManager {
+  public LimiteTasaExcedidoException(String message) {
+    super(message);
+  }
+}
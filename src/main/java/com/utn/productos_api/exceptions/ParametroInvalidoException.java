@@ -0,0 +1,7 @@
+package com.utn.productos_api.exceptions;
+
+public class ParametroInvalidoException extends ExceptionManager {
+  public ParametroInvalidoException(String message) {
+    super(message);
+  }
+}
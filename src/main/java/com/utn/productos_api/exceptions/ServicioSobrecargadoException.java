@@ -0,0 +1,7 @@
+package com.utn.productos_api.exceptions;
+
+public class ServicioSobrecargadoException extends ExceptionManager {
+  public ServicioSobrecargadoException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package com.utn.productos_api.exceptions;
+
+public class SolicitudEnCursoException extends ExceptionManager {
+  public SolicitudEnCursoException(String message) {
+    super(message);
+  }
+}
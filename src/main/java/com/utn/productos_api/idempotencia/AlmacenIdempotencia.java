@@ -0,0 +1,14 @@
+package com.utn.productos_api.idempotencia;
+
+import java.util.Optional;
+
+public interface AlmacenIdempotencia {
+
+  Optional<RespuestaIdempotente> obtener(String clave);
+
+  boolean reservar(String clave, String huella);
+
+  void guardar(String clave, RespuestaIdempotente respuesta);
+
+  void liberar(String clave);
+}
@@ -0,0 +1,89 @@
+package com.utn.productos_api.idempotencia;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.utn.productos_api.model.ClaveIdempotencia;
+import com.utn.productos_api.repository.ClaveIdempotenciaRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "productos.idempotencia.almacen", havingValue = "base-datos")
+public class AlmacenIdempotenciaBaseDatos implements AlmacenIdempotencia {
+
+  private final ClaveIdempotenciaRepository claveIdempotenciaRepository;
+  private final Duration ttl;
+  private final Duration duracionReserva;
+  private final Cache<String, RespuestaIdempotente> recientes;
+
+  public AlmacenIdempotenciaBaseDatos(ClaveIdempotenciaRepository claveIdempotenciaRepository,
+      @Value("${productos.idempotencia.maximo-claves:100000}") long maximoClaves,
+      @Value("${productos.idempotencia.ttl:24h}") Duration ttl,
+      @Value("${productos.idempotencia.duracion-reserva:5m}") Duration duracionReserva) {
+    this.claveIdempotenciaRepository = claveIdempotenciaRepository;
+    this.ttl = ttl;
+    this.duracionReserva = duracionReserva;
+    this.recientes = Caffeine.newBuilder()
+        .maximumSize(maximoClaves)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  @Override
+  public Optional<RespuestaIdempotente> obtener(String clave) {
+    RespuestaIdempotente reciente = recientes.getIfPresent(clave);
+    if (reciente != null) {
+      return Optional.of(reciente);
+    }
+
+    Optional<RespuestaIdempotente> guardada = claveIdempotenciaRepository.findById(clave)
+        .filter(registro -> registro.getExpira().isAfter(Instant.now()))
+        .map(registro -> new RespuestaIdempotente(registro.getHuella(), registro.getCuerpo()));
+    guardada.filter(RespuestaIdempotente::completa).ifPresent(respuesta -> recientes.put(clave, respuesta));
+    return guardada;
+  }
+
+  @Override
+  public boolean reservar(String clave, String huella) {
+    if (insertarReserva(clave, huella)) {
+      return true;
+    }
+    return claveIdempotenciaRepository.eliminarSiExpiro(clave, Instant.now()) > 0 && insertarReserva(clave, huella);
+  }
+
+  @Override
+  public void guardar(String clave, RespuestaIdempotente respuesta) {
+    if (claveIdempotenciaRepository.completar(clave, respuesta.huella(), respuesta.cuerpo(), Instant.now().plus(ttl)) > 0) {
+      recientes.put(clave, respuesta);
+    }
+  }
+
+  @Override
+  public void liberar(String clave) {
+    claveIdempotenciaRepository.liberar(clave);
+  }
+
+  @Scheduled(fixedDelayString = "${productos.idempotencia.intervalo-limpieza-ms:60000}")
+  public void eliminarExpiradas() {
+    claveIdempotenciaRepository.eliminarExpiradas(Instant.now());
+  }
+
+  private boolean insertarReserva(String clave, String huella) {
+    try {
+      claveIdempotenciaRepository.saveAndFlush(ClaveIdempotencia.builder()
+          .clave(clave)
+          .huella(huella)
+          .expira(Instant.now().plus(duracionReserva))
+          .build());
+      return true;
+    } catch (DataIntegrityViolationException e) {
+      return false;
+    }
+  }
+}
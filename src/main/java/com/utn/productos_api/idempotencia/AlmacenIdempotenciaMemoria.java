@@ -0,0 +1,45 @@
+package com.utn.productos_api.idempotencia;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "productos.idempotencia.almacen", havingValue = "memoria", matchIfMissing = true)
+public class AlmacenIdempotenciaMemoria implements AlmacenIdempotencia {
+
+  private final Cache<String, RespuestaIdempotente> respuestas;
+
+  public AlmacenIdempotenciaMemoria(
+      @Value("${productos.idempotencia.maximo-claves:100000}") long maximoClaves,
+      @Value("${productos.idempotencia.ttl:24h}") Duration ttl) {
+    this.respuestas = Caffeine.newBuilder()
+        .maximumSize(maximoClaves)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  @Override
+  public Optional<RespuestaIdempotente> obtener(String clave) {
+    return Optional.ofNullable(respuestas.getIfPresent(clave));
+  }
+
+  @Override
+  public boolean reservar(String clave, String huella) {
+    return respuestas.asMap().putIfAbsent(clave, RespuestaIdempotente.enCurso(huella)) == null;
+  }
+
+  @Override
+  public void guardar(String clave, RespuestaIdempotente respuesta) {
+    respuestas.put(clave, respuesta);
+  }
+
+  @Override
+  public void liberar(String clave) {
+    respuestas.asMap().computeIfPresent(clave, (ignorada, respuesta) -> respuesta.completa() ? respuesta : null);
+  }
+}
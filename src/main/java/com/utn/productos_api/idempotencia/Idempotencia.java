@@ -0,0 +1,193 @@
+package com.utn.productos_api.idempotencia;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.exceptions.ClaveIdempotenciaReutilizadaException;
+import com.utn.productos_api.exceptions.ParametroInvalidoException;
+import com.utn.productos_api.exceptions.SolicitudEnCursoException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class Idempotencia implements MeterBinder {
+
+  private static final int LONGITUD_MAXIMA_CLAVE = 255;
+  private static final Duration INTERVALO_CONSULTA = Duration.ofMillis(50);
+
+  private final AlmacenIdempotencia almacen;
+  private final ObjectMapper objectMapper;
+  private final Duration espera;
+  private final ConcurrentHashMap<String, CompletableFuture<RespuestaIdempotente>> enCurso = new ConcurrentHashMap<>();
+
+  private final AtomicLong nuevas = new AtomicLong();
+  private final AtomicLong repetidas = new AtomicLong();
+  private final AtomicLong esperadas = new AtomicLong();
+
+  public Idempotencia(AlmacenIdempotencia almacen, ObjectMapper objectMapper,
+      @Value("${productos.idempotencia.espera:30s}") Duration espera) {
+    this.almacen = almacen;
+    this.objectMapper = objectMapper;
+    this.espera = espera;
+  }
+
+  public <T> ResultadoIdempotente<T> ejecutar(String clave, String operacion, Object solicitud, Class<T> tipo,
+      Supplier<T> accion) {
+    validarClave(clave);
+    String huella = huella(operacion, solicitud);
+
+    Optional<RespuestaIdempotente> guardada = almacen.obtener(clave).filter(RespuestaIdempotente::completa);
+    if (guardada.isPresent()) {
+      repetidas.incrementAndGet();
+      return repetir(clave, huella, guardada.get(), tipo);
+    }
+
+    CompletableFuture<RespuestaIdempotente> propia = new CompletableFuture<>();
+    CompletableFuture<RespuestaIdempotente> existente = enCurso.putIfAbsent(clave, propia);
+    if (existente != null) {
+      esperadas.incrementAndGet();
+      return repetir(clave, huella, esperar(clave, existente), tipo);
+    }
+
+    boolean reservada = false;
+    try {
+      Optional<RespuestaIdempotente> ajena = reservarOEsperar(clave, huella);
+      if (ajena.isPresent()) {
+        propia.complete(ajena.get());
+        repetidas.incrementAndGet();
+        return repetir(clave, huella, ajena.get(), tipo);
+      }
+      reservada = true;
+
+      T valor = accion.get();
+      RespuestaIdempotente respuesta = new RespuestaIdempotente(huella, serializar(valor));
+      almacen.guardar(clave, respuesta);
+      propia.complete(respuesta);
+      nuevas.incrementAndGet();
+      return new ResultadoIdempotente<>(valor, false);
+    } catch (RuntimeException | Error e) {
+      if (reservada) {
+        almacen.liberar(clave);
+      }
+      propia.completeExceptionally(e);
+      throw e;
+    } finally {
+      enCurso.remove(clave, propia);
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("productos.idempotencia", nuevas, AtomicLong::get)
+        .tag("resultado", "nueva")
+        .description("Solicitudes con Idempotency-Key ejecutadas por primera vez")
+        .register(registry);
+    FunctionCounter.builder("productos.idempotencia", repetidas, AtomicLong::get)
+        .tag("resultado", "repetida")
+        .description("Solicitudes con Idempotency-Key respondidas desde el almacén")
+        .register(registry);
+    FunctionCounter.builder("productos.idempotencia", esperadas, AtomicLong::get)
+        .tag("resultado", "esperada")
+        .description("Solicitudes duplicadas que esperaron a la ejecución en curso")
+        .register(registry);
+  }
+
+  private Optional<RespuestaIdempotente> reservarOEsperar(String clave, String huella) {
+    long limite = System.nanoTime() + espera.toNanos();
+    while (!almacen.reservar(clave, huella)) {
+      Optional<RespuestaIdempotente> ajena = almacen.obtener(clave);
+      if (ajena.isPresent() && !ajena.get().huella().equals(huella)) {
+        throw new ClaveIdempotenciaReutilizadaException(
+            "La Idempotency-Key " + clave + " ya se usó con una solicitud distinta");
+      }
+      if (ajena.isPresent() && ajena.get().completa()) {
+        return ajena;
+      }
+      if (System.nanoTime() - limite > 0) {
+        throw new SolicitudEnCursoException("La solicitud con Idempotency-Key " + clave + " sigue en curso");
+      }
+      try {
+        Thread.sleep(INTERVALO_CONSULTA.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SolicitudEnCursoException("La solicitud con Idempotency-Key " + clave + " sigue en curso");
+      }
+    }
+    return Optional.empty();
+  }
+
+  private RespuestaIdempotente esperar(String clave, CompletableFuture<RespuestaIdempotente> enEjecucion) {
+    try {
+      return enEjecucion.get(espera.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      throw new SolicitudEnCursoException("La solicitud con Idempotency-Key " + clave + " sigue en curso");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SolicitudEnCursoException("La solicitud con Idempotency-Key " + clave + " sigue en curso");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException causa) {
+        throw causa;
+      }
+      if (e.getCause() instanceof Error causa) {
+        throw causa;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private <T> ResultadoIdempotente<T> repetir(String clave, String huella, RespuestaIdempotente respuesta,
+      Class<T> tipo) {
+    if (!respuesta.huella().equals(huella)) {
+      throw new ClaveIdempotenciaReutilizadaException(
+          "La Idempotency-Key " + clave + " ya se usó con una solicitud distinta");
+    }
+
+    try {
+      return new ResultadoIdempotente<>(objectMapper.readValue(respuesta.cuerpo(), tipo), true);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("No se pudo leer la respuesta guardada para la Idempotency-Key " + clave, e);
+    }
+  }
+
+  private void validarClave(String clave) {
+    if (clave.isBlank() || clave.length() > LONGITUD_MAXIMA_CLAVE) {
+      throw new ParametroInvalidoException(
+          "La Idempotency-Key debe tener entre 1 y " + LONGITUD_MAXIMA_CLAVE + " caracteres");
+    }
+  }
+
+  private String huella(String operacion, Object solicitud) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(operacion.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) '\n');
+      digest.update(objectMapper.writeValueAsBytes(solicitud));
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private String serializar(Object valor) {
+    try {
+      return objectMapper.writeValueAsString(valor);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
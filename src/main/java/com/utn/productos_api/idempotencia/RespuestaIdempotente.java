@@ -0,0 +1,12 @@
+package com.utn.productos_api.idempotencia;
+
+public record RespuestaIdempotente(String huella, String cuerpo) {
+
+  public static RespuestaIdempotente enCurso(String huella) {
+    return new RespuestaIdempotente(huella, null);
+  }
+
+  public boolean completa() {
+    return cuerpo != null;
+  }
+}
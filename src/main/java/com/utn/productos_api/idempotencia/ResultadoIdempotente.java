@@ -0,0 +1,4 @@
+package com.utn.productos_api.idempotencia;
+
+public record ResultadoIdempotente<T>(T valor, boolean repetido) {
+}
@@ -0,0 +1,112 @@
+package com.utn.productos_api.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+class ConsultasLentasDataSource extends DelegatingDataSource {
+
+  private static final Logger log = LoggerFactory.getLogger("productos.sql.lentas");
+
+  private final long umbralNanos;
+  private final double muestreo;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  ConsultasLentasDataSource(DataSource dataSource, long umbralMs, double muestreo,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    super(dataSource);
+    this.umbralNanos = TimeUnit.MILLISECONDS.toNanos(umbralMs);
+    this.muestreo = muestreo;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return envolverConexion(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String usuario, String clave) throws SQLException {
+    return envolverConexion(super.getConnection(usuario, clave));
+  }
+
+  private Connection envolverConexion(Connection conexion) {
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+        (proxy, metodo, args) -> {
+          if (esIdentidad(metodo)) {
+            return identidad(proxy, metodo, args);
+          }
+
+          Object resultado = invocar(conexion, metodo, args);
+          if (resultado instanceof Statement sentencia) {
+            String sql = metodo.getName().startsWith("prepare") ? (String) args[0] : null;
+            return envolverSentencia(sentencia, metodo.getReturnType(), sql);
+          }
+          return resultado;
+        });
+  }
+
+  private Object envolverSentencia(Statement sentencia, Class<?> tipo, String sqlPreparado) {
+    return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{tipo},
+        (proxy, metodo, args) -> {
+          if (esIdentidad(metodo)) {
+            return identidad(proxy, metodo, args);
+          }
+          if (!metodo.getName().startsWith("execute")) {
+            return invocar(sentencia, metodo, args);
+          }
+
+          long inicio = System.nanoTime();
+          try {
+            return invocar(sentencia, metodo, args);
+          } finally {
+            long duracion = System.nanoTime() - inicio;
+            if (duracion >= umbralNanos) {
+              String sql = sqlPreparado != null ? sqlPreparado
+                  : args != null && args.length > 0 && args[0] instanceof String texto ? texto : metodo.getName();
+              registrar(duracion, sql);
+            }
+          }
+        });
+  }
+
+  private void registrar(long duracionNanos, String sql) {
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    if (registry != null) {
+      registry.counter("productos.sql.lentas").increment();
+    }
+    if (ThreadLocalRandom.current().nextDouble() < muestreo) {
+      log.warn("Consulta lenta ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(duracionNanos), sql);
+    }
+  }
+
+  private static boolean esIdentidad(Method metodo) {
+    return metodo.getName().equals("equals") || metodo.getName().equals("hashCode");
+  }
+
+  private static Object identidad(Object proxy, Method metodo, Object[] args) {
+    if (metodo.getName().equals("equals")) {
+      return proxy == args[0];
+    }
+    return System.identityHashCode(proxy);
+  }
+
+  private static Object invocar(Object destino, Method metodo, Object[] args) throws Throwable {
+    try {
+      return metodo.invoke(destino, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
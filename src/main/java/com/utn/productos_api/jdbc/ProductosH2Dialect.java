@@ -0,0 +1,20 @@
+package com.utn.productos_api.jdbc;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+
+public class ProductosH2Dialect extends H2Dialect {
+
+  public ProductosH2Dialect() {
+    super();
+  }
+
+  public ProductosH2Dialect(DialectResolutionInfo info) {
+    super(info);
+  }
+
+  @Override
+  public boolean supportsOrdinalSelectItemReference() {
+    return false;
+  }
+}
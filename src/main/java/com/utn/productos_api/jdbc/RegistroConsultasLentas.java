@@ -0,0 +1,35 @@
+package com.utn.productos_api.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "productos.sql.lentas.enabled", havingValue = "true")
+public class RegistroConsultasLentas implements BeanPostProcessor {
+
+  private final long umbralMs;
+  private final double muestreo;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  public RegistroConsultasLentas(
+      @Value("${productos.sql.lentas.umbral-ms:200}") long umbralMs,
+      @Value("${productos.sql.lentas.muestreo:1.0}") double muestreo,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.umbralMs = umbralMs;
+    this.muestreo = muestreo;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof DataSource dataSource && !(bean instanceof ConsultasLentasDataSource)) {
+      return new ConsultasLentasDataSource(dataSource, umbralMs, muestreo, meterRegistry);
+    }
+    return bean;
+  }
+}
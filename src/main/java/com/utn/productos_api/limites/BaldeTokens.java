@@ -0,0 +1,38 @@
+package com.utn.productos_api.limites;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class BaldeTokens {
+
+  private final long intervaloNanos;
+  private final long toleranciaNanos;
+  private final AtomicLong llegadaTeorica;
+
+  BaldeTokens(double tokensPorSegundo, int capacidad, long ahora) {
+    this.intervaloNanos = (long) (1_000_000_000L / tokensPorSegundo);
+    this.toleranciaNanos = intervaloNanos * (capacidad - 1);
+    this.llegadaTeorica = new AtomicLong(ahora);
+  }
+
+  long espera(long ahora) {
+    return Math.max(0, Math.max(llegadaTeorica.get(), ahora) - toleranciaNanos - ahora);
+  }
+
+  long consumir(long ahora) {
+    while (true) {
+      long actual = llegadaTeorica.get();
+      long base = Math.max(actual, ahora);
+      long espera = base - toleranciaNanos - ahora;
+      if (espera > 0) {
+        return espera;
+      }
+      if (llegadaTeorica.compareAndSet(actual, base + intervaloNanos)) {
+        return 0;
+      }
+    }
+  }
+
+  void devolver() {
+    llegadaTeorica.addAndGet(-intervaloNanos);
+  }
+}
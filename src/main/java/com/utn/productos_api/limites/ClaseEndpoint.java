@@ -0,0 +1,6 @@
+package com.utn.productos_api.limites;
+
+public enum ClaseEndpoint {
+  COSTOSO,
+  ECONOMICO
+}
@@ -0,0 +1,137 @@
+package com.utn.productos_api.limites;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "productos.limites.enabled", havingValue = "true", matchIfMissing = true)
+public class LimitadorConcurrencia implements MeterBinder {
+
+  private static final int MUESTRAS = 4096;
+  private static final int MUESTRAS_MINIMAS = 20;
+
+  private final DataSource dataSource;
+  private final int limiteMinimo;
+  private final int limiteMaximo;
+  private final long umbralP99Nanos;
+  private final int umbralEsperaPool;
+
+  private final AtomicInteger enCurso = new AtomicInteger();
+  private final AtomicLongArray latencias = new AtomicLongArray(MUESTRAS);
+  private final AtomicLong registradas = new AtomicLong();
+  private final AtomicLong rechazos = new AtomicLong();
+  private volatile int limite;
+  private volatile long p99Nanos;
+  private long ultimaRegistrada;
+
+  public LimitadorConcurrencia(DataSource dataSource,
+      @Value("${productos.limites.concurrencia.minimo:8}") int limiteMinimo,
+      @Value("${productos.limites.concurrencia.maximo:200}") int limiteMaximo,
+      @Value("${productos.limites.concurrencia.umbral-p99:500ms}") Duration umbralP99,
+      @Value("${productos.limites.concurrencia.umbral-espera-pool:4}") int umbralEsperaPool) {
+    this.dataSource = dataSource;
+    this.limiteMinimo = limiteMinimo;
+    this.limiteMaximo = limiteMaximo;
+    this.umbralP99Nanos = umbralP99.toNanos();
+    this.umbralEsperaPool = umbralEsperaPool;
+    this.limite = limiteMaximo;
+  }
+
+  public boolean adquirir() {
+    while (true) {
+      int actual = enCurso.get();
+      if (actual >= limite) {
+        rechazos.incrementAndGet();
+        return false;
+      }
+      if (enCurso.compareAndSet(actual, actual + 1)) {
+        return true;
+      }
+    }
+  }
+
+  public void liberar(long duracionNanos) {
+    enCurso.decrementAndGet();
+    latencias.set((int) (registradas.getAndIncrement() % MUESTRAS), duracionNanos);
+  }
+
+  @Scheduled(fixedDelayString = "${productos.limites.concurrencia.intervalo-ms:1000}")
+  public synchronized void ajustar() {
+    long hasta = registradas.get();
+    int cantidad = (int) Math.min(hasta - ultimaRegistrada, MUESTRAS);
+    ultimaRegistrada = hasta;
+
+    if (cantidad >= MUESTRAS_MINIMAS) {
+      long[] ventana = new long[cantidad];
+      for (int i = 0; i < cantidad; i++) {
+        ventana[i] = latencias.get((int) ((hasta - 1 - i) % MUESTRAS));
+      }
+      Arrays.sort(ventana);
+      p99Nanos = ventana[(int) Math.ceil(cantidad * 0.99) - 1];
+    } else {
+      p99Nanos = 0;
+    }
+
+    boolean saturado = p99Nanos > umbralP99Nanos || hilosEsperandoConexion() > umbralEsperaPool;
+    if (saturado) {
+      limite = Math.max(limiteMinimo, limite * 3 / 4);
+    } else if (limite < limiteMaximo) {
+      limite = limite + 1;
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("productos.limites.rechazos", rechazos, AtomicLong::get)
+        .tag("motivo", "concurrencia")
+        .tag("clase", "todas")
+        .description("Solicitudes rechazadas con 503 por superar el límite de concurrencia adaptativo")
+        .register(registry);
+    Gauge.builder("productos.limites.concurrencia", this, limitador -> limitador.limite)
+        .tag("estado", "limite")
+        .description("Solicitudes simultáneas admitidas por el límite adaptativo")
+        .register(registry);
+    Gauge.builder("productos.limites.concurrencia", enCurso, AtomicInteger::get)
+        .tag("estado", "en-curso")
+        .description("Solicitudes en curso bajo el límite adaptativo")
+        .register(registry);
+    Gauge.builder("productos.limites.latencia.p99", this, LimitadorConcurrencia::p99Segundos)
+        .baseUnit("seconds")
+        .description("Latencia p99 de la última ventana de ajuste")
+        .register(registry);
+  }
+
+  private double p99Segundos() {
+    return (double) p99Nanos / TimeUnit.SECONDS.toNanos(1);
+  }
+
+  private int hilosEsperandoConexion() {
+    try {
+      if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+        return 0;
+      }
+      HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+      return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+    } catch (SQLException e) {
+      return 0;
+    }
+  }
+}
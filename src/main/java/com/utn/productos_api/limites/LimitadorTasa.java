@@ -0,0 +1,107 @@
+package com.utn.productos_api.limites;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "productos.limites.enabled", havingValue = "true", matchIfMissing = true)
+public class LimitadorTasa implements MeterBinder {
+
+  private final Cache<String, BaldeTokens> baldes;
+  private final Map<OrigenCliente, Map<ClaseEndpoint, Double>> tasas = new EnumMap<>(OrigenCliente.class);
+  private final Map<OrigenCliente, Map<ClaseEndpoint, Integer>> capacidades = new EnumMap<>(OrigenCliente.class);
+  private final Map<ClaseEndpoint, AtomicLong> rechazos = new EnumMap<>(ClaseEndpoint.class);
+
+  public LimitadorTasa(
+      @Value("${productos.limites.tasa.ip.costoso.por-segundo:20}") double tasaIpCostoso,
+      @Value("${productos.limites.tasa.ip.costoso.rafaga:40}") int rafagaIpCostoso,
+      @Value("${productos.limites.tasa.ip.economico.por-segundo:200}") double tasaIpEconomico,
+      @Value("${productos.limites.tasa.ip.economico.rafaga:400}") int rafagaIpEconomico,
+      @Value("${productos.limites.tasa.api-key.costoso.por-segundo:50}") double tasaApiKeyCostoso,
+      @Value("${productos.limites.tasa.api-key.costoso.rafaga:100}") int rafagaApiKeyCostoso,
+      @Value("${productos.limites.tasa.api-key.economico.por-segundo:500}") double tasaApiKeyEconomico,
+      @Value("${productos.limites.tasa.api-key.economico.rafaga:1000}") int rafagaApiKeyEconomico,
+      @Value("${productos.limites.maximo-clientes:100000}") long maximoClientes,
+      @Value("${productos.limites.inactividad-cliente:10m}") Duration inactividad) {
+    this.baldes = Caffeine.newBuilder()
+        .maximumSize(maximoClientes)
+        .expireAfterAccess(inactividad)
+        .build();
+    limite(OrigenCliente.IP, ClaseEndpoint.COSTOSO, tasaIpCostoso, rafagaIpCostoso);
+    limite(OrigenCliente.IP, ClaseEndpoint.ECONOMICO, tasaIpEconomico, rafagaIpEconomico);
+    limite(OrigenCliente.API_KEY, ClaseEndpoint.COSTOSO, tasaApiKeyCostoso, rafagaApiKeyCostoso);
+    limite(OrigenCliente.API_KEY, ClaseEndpoint.ECONOMICO, tasaApiKeyEconomico, rafagaApiKeyEconomico);
+    for (ClaseEndpoint clase : ClaseEndpoint.values()) {
+      rechazos.put(clase, new AtomicLong());
+    }
+  }
+
+  public Duration consumir(ClaseEndpoint clase, String ip, String apiKey) {
+    long ahora = System.nanoTime();
+    BaldeTokens baldeIp = balde(OrigenCliente.IP, ip, clase, ahora);
+    BaldeTokens baldeApiKey = apiKey == null ? null : balde(OrigenCliente.API_KEY, apiKey, clase, ahora);
+
+    long espera = baldeIp.espera(ahora);
+    if (baldeApiKey != null) {
+      espera = Math.max(espera, baldeApiKey.espera(ahora));
+    }
+    if (espera == 0) {
+      espera = baldeIp.consumir(ahora);
+      if (espera == 0 && baldeApiKey != null) {
+        espera = baldeApiKey.consumir(ahora);
+        if (espera > 0) {
+          baldeIp.devolver();
+        }
+      }
+    }
+
+    if (espera > 0) {
+      rechazos.get(clase).incrementAndGet();
+    }
+    return Duration.ofNanos(espera);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (ClaseEndpoint clase : ClaseEndpoint.values()) {
+      FunctionCounter.builder("productos.limites.rechazos", rechazos.get(clase), AtomicLong::get)
+          .tag("motivo", "tasa")
+          .tag("clase", clase.name().toLowerCase())
+          .description("Solicitudes rechazadas con 429 por superar el límite de tasa del cliente")
+          .register(registry);
+      for (OrigenCliente origen : OrigenCliente.values()) {
+        Gauge.builder("productos.limites.tasa", tasas.get(origen), valores -> valores.get(clase))
+            .tag("clase", clase.name().toLowerCase())
+            .tag("origen", origen.name().toLowerCase())
+            .description("Solicitudes por segundo permitidas a cada IP o API key")
+            .register(registry);
+      }
+    }
+    Gauge.builder("productos.limites.clientes", baldes, Cache::estimatedSize)
+        .description("Clientes con un balde de tokens activo")
+        .register(registry);
+  }
+
+  private void limite(OrigenCliente origen, ClaseEndpoint clase, double porSegundo, int rafaga) {
+    tasas.computeIfAbsent(origen, clave -> new EnumMap<>(ClaseEndpoint.class)).put(clase, porSegundo);
+    capacidades.computeIfAbsent(origen, clave -> new EnumMap<>(ClaseEndpoint.class)).put(clase, rafaga);
+  }
+
+  private BaldeTokens balde(OrigenCliente origen, String cliente, ClaseEndpoint clase, long ahora) {
+    return baldes.get(origen.name() + ":" + clase.name() + ":" + cliente,
+        clave -> new BaldeTokens(tasas.get(origen).get(clase), capacidades.get(origen).get(clase), ahora));
+  }
+}
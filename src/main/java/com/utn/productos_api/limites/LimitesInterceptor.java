@@ -0,0 +1,92 @@
+package com.utn.productos_api.limites;
+
+import com.utn.productos_api.exceptions.LimiteTasaExcedidoException;
+import com.utn.productos_api.exceptions.ServicioSobrecargadoException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "productos.limites.enabled", havingValue = "true", matchIfMissing = true)
+public class LimitesInterceptor implements AsyncHandlerInterceptor {
+
+  public static final String API_KEY = "X-API-Key";
+
+  private static final String INICIO = LimitesInterceptor.class.getName() + ".inicio";
+  private static final int LONGITUD_MAXIMA_API_KEY = 128;
+  private static final String RAIZ = "/api/productos";
+  private static final List<String> PREFIJOS_COSTOSOS = List.of(
+      RAIZ + "/export", RAIZ + "/import", RAIZ + "/filtro", RAIZ + "/search", RAIZ + "/categoria/",
+      RAIZ + "/bulk", RAIZ + "/snapshot");
+
+  private final LimitadorTasa limitadorTasa;
+  private final LimitadorConcurrencia limitadorConcurrencia;
+
+  public LimitesInterceptor(LimitadorTasa limitadorTasa, LimitadorConcurrencia limitadorConcurrencia) {
+    this.limitadorTasa = limitadorTasa;
+    this.limitadorConcurrencia = limitadorConcurrencia;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (request.getDispatcherType() == DispatcherType.ASYNC) {
+      return true;
+    }
+
+    ClaseEndpoint clase = clasificar(request);
+    Duration espera = limitadorTasa.consumir(clase, request.getRemoteAddr(), apiKey(request));
+    if (!espera.isZero()) {
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (espera.toMillis() + 999) / 1000)));
+      throw new LimiteTasaExcedidoException("Se superó el límite de solicitudes por segundo para el cliente");
+    }
+
+    if (!limitadorConcurrencia.adquirir()) {
+      response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+      throw new ServicioSobrecargadoException("El servicio está sobrecargado, reintente en unos segundos");
+    }
+
+    request.setAttribute(INICIO, System.nanoTime());
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+      Exception ex) {
+    Object inicio = request.getAttribute(INICIO);
+    if (inicio == null) {
+      return;
+    }
+    request.removeAttribute(INICIO);
+    limitadorConcurrencia.liberar(System.nanoTime() - (Long) inicio);
+  }
+
+  static ClaseEndpoint clasificar(HttpServletRequest request) {
+    String ruta = request.getRequestURI().substring(request.getContextPath().length());
+    if (ruta.equals(RAIZ) && HttpMethod.GET.matches(request.getMethod()) && request.getParameter("ids") == null) {
+      return ClaseEndpoint.COSTOSO;
+    }
+    for (String prefijo : PREFIJOS_COSTOSOS) {
+      if (ruta.startsWith(prefijo)) {
+        return ClaseEndpoint.COSTOSO;
+      }
+    }
+    return ClaseEndpoint.ECONOMICO;
+  }
+
+  private static String apiKey(HttpServletRequest request) {
+    String apiKey = request.getHeader(API_KEY);
+    if (apiKey == null || apiKey.isBlank()) {
+      return null;
+    }
+    return apiKey.length() > LONGITUD_MAXIMA_API_KEY ? apiKey.substring(0, LONGITUD_MAXIMA_API_KEY) : apiKey;
+  }
+}
@@ -0,0 +1,6 @@
+package com.utn.productos_api.limites;
+
+public enum OrigenCliente {
+  IP,
+  API_KEY
+}
@@ -6,6 +6,7 @@ import com.utn.productos_api.model.Producto;
 import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 @Mapper(componentModel = "spring")
 public interface ProductoMapper {
@@ -15,8 +16,15 @@ public interface ProductoMapper {
   ProductoResponseDTO toProductoResponseDTO(Producto model);
 
   @Mapping(target = "id", ignore = true)
+  @Mapping(target = "version", ignore = true)
+  @Mapping(target = "ultimaModificacion", ignore = true)
   Producto toProducto(ProductoDTO dto);
 
+  @Mapping(target = "id", ignore = true)
+  @Mapping(target = "version", ignore = true)
+  @Mapping(target = "ultimaModificacion", ignore = true)
+  void actualizarProducto(ProductoDTO dto, @MappingTarget Producto producto);
+
   List<ProductoDTO> toProductoDTOList(List<Producto> models);
 
   List<ProductoResponseDTO> toProductoResponseDTOList(List<Producto> models);
@@ -0,0 +1,58 @@
+package com.utn.productos_api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "clave_idempotencia", indexes = {
+    @Index(name = "idx_clave_idempotencia_expira", columnList = "expira")
+})
+public class ClaveIdempotencia implements Persistable<String> {
+
+  @Id
+  private String clave;
+
+  @Column(length = 64)
+  private String huella;
+
+  @Column(length = 4000)
+  private String cuerpo;
+
+  private Instant expira;
+
+  @Transient
+  @Builder.Default
+  private boolean nueva = true;
+
+  @Override
+  public String getId() {
+    return clave;
+  }
+
+  @Override
+  public boolean isNew() {
+    return nueva;
+  }
+
+  @PostLoad
+  @PostPersist
+  void marcarExistente() {
+    nueva = false;
+  }
+}
@@ -0,0 +1,51 @@
+package com.utn.productos_api.model;
+
+import com.utn.productos_api.events.TipoModificacion;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "evento_outbox", indexes = {
+    @Index(name = "idx_evento_outbox_pendientes", columnList = "publicado, id"),
+    @Index(name = "idx_evento_outbox_secuencia", columnList = "secuencia")
+})
+public class EventoOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evento_outbox_seq")
+  @SequenceGenerator(name = "evento_outbox_seq", sequenceName = "evento_outbox_seq", allocationSize = 50)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  private TipoModificacion tipo;
+
+  private Long secuencia;
+
+  private Long productoId;
+
+  @Column(length = 2000)
+  private String payload;
+
+  private Instant creado;
+
+  private boolean publicado;
+
+  private Instant publicadoEn;
+}
@@ -1,25 +1,43 @@
 package com.utn.productos_api.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_producto_categoria_precio", columnList = "categoria, precio"),
+    @Index(name = "idx_producto_categoria_id", columnList = "categoria, id"),
+    @Index(name = "idx_producto_nombre", columnList = "nombre")
+})
 public class Producto {
 
+  public static final int BLOQUE_IDS = 50;
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @org.springframework.data.annotation.Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "producto_seq")
+  @SequenceGenerator(name = "producto_seq", sequenceName = "producto_seq", allocationSize = BLOQUE_IDS)
   private Long id;
 
   private String nombre;
@@ -31,5 +49,13 @@ public class Producto {
   private Integer stock;
 
   @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
+  @Column(length = 20)
   Categoria categoria;
+
+  @Version
+  private Long version;
+
+  @UpdateTimestamp
+  private Instant ultimaModificacion;
 }
@@ -0,0 +1,23 @@
+package com.utn.productos_api.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "segmento_stock_aplicado")
+public class SegmentoStockAplicado {
+
+  @Id
+  private Integer id;
+
+  private Long segmento;
+}
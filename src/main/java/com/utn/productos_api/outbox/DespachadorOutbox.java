@@ -0,0 +1,105 @@
+package com.utn.productos_api.outbox;
+
+import com.utn.productos_api.dto.EventoProductoDTO;
+import com.utn.productos_api.model.EventoOutbox;
+import com.utn.productos_api.repository.EventoOutboxRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(name = "productos.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class DespachadorOutbox implements MeterBinder {
+
+  private static final Logger log = LoggerFactory.getLogger(DespachadorOutbox.class);
+
+  private final EventoOutboxRepository eventoOutboxRepository;
+  private final Outbox outbox;
+  private final List<SinkEventos> sinks;
+  private final TransactionTemplate transactionTemplate;
+  private final int tamanioLote;
+  private final Duration retencion;
+
+  private final AtomicLong publicados = new AtomicLong();
+  private final AtomicLong fallos = new AtomicLong();
+
+  public DespachadorOutbox(EventoOutboxRepository eventoOutboxRepository, Outbox outbox, List<SinkEventos> sinks,
+      PlatformTransactionManager transactionManager,
+      @Value("${productos.outbox.tamanio-lote:500}") int tamanioLote,
+      @Value("${productos.outbox.retencion:1h}") Duration retencion) {
+    this.eventoOutboxRepository = eventoOutboxRepository;
+    this.outbox = outbox;
+    this.sinks = sinks;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.tamanioLote = tamanioLote;
+    this.retencion = retencion;
+  }
+
+  @Scheduled(fixedDelayString = "${productos.outbox.intervalo-ms:500}")
+  public synchronized void despachar() {
+    List<EventoOutbox> pendientes;
+    do {
+      pendientes = transactionTemplate.execute(estado -> numerarPendientes());
+      if (pendientes.isEmpty()) {
+        return;
+      }
+
+      List<EventoProductoDTO> eventos = pendientes.stream().map(outbox::aEvento).toList();
+      try {
+        for (SinkEventos sink : sinks) {
+          sink.publicar(eventos);
+        }
+      } catch (RuntimeException e) {
+        fallos.incrementAndGet();
+        log.warn("No se pudieron publicar {} eventos del outbox, se reintentará", eventos.size(), e);
+        return;
+      }
+
+      List<Long> ids = pendientes.stream().map(EventoOutbox::getId).toList();
+      transactionTemplate.executeWithoutResult(estado -> eventoOutboxRepository.marcarPublicados(ids, Instant.now()));
+      publicados.addAndGet(ids.size());
+    } while (pendientes.size() == tamanioLote);
+  }
+
+  public synchronized void sinDespachar(Runnable accion) {
+    accion.run();
+  }
+
+  private List<EventoOutbox> numerarPendientes() {
+    List<EventoOutbox> pendientes = eventoOutboxRepository.findPendientes(Limit.of(tamanioLote));
+    long secuencia = eventoOutboxRepository.findUltimaSecuencia();
+    for (EventoOutbox evento : pendientes) {
+      if (evento.getSecuencia() == null) {
+        evento.setSecuencia(++secuencia);
+      }
+    }
+    return pendientes;
+  }
+
+  @Scheduled(fixedDelayString = "${productos.outbox.intervalo-limpieza-ms:60000}")
+  public void limpiar() {
+    transactionTemplate.executeWithoutResult(estado ->
+        eventoOutboxRepository.eliminarPublicadosAntesDe(Instant.now().minus(retencion)));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("productos.outbox.publicados", publicados, AtomicLong::get)
+        .register(registry);
+    FunctionCounter.builder("productos.outbox.fallos", fallos, AtomicLong::get)
+        .register(registry);
+  }
+}
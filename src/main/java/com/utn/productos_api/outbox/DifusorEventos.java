@@ -0,0 +1,107 @@
+package com.utn.productos_api.outbox;
+
+import com.utn.productos_api.dto.EventoProductoDTO;
+import com.utn.productos_api.repository.EventoOutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "productos.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class DifusorEventos implements SinkEventos, MeterBinder {
+
+  private final EventoOutboxRepository eventoOutboxRepository;
+  private final Outbox outbox;
+  private final ObjectProvider<DespachadorOutbox> despachador;
+  private final TransactionTemplate transactionTemplate;
+  private final long timeoutMs;
+  private final int maximoReproduccion;
+  private final List<Suscriptor> suscriptores = new CopyOnWriteArrayList<>();
+
+  public DifusorEventos(EventoOutboxRepository eventoOutboxRepository, Outbox outbox,
+      ObjectProvider<DespachadorOutbox> despachador, PlatformTransactionManager transactionManager,
+      @Value("${productos.outbox.sse.timeout:30m}") Duration timeout,
+      @Value("${productos.outbox.sse.maximo-reproduccion:10000}") int maximoReproduccion) {
+    this.eventoOutboxRepository = eventoOutboxRepository;
+    this.outbox = outbox;
+    this.despachador = despachador;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.timeoutMs = timeout.toMillis();
+    this.maximoReproduccion = maximoReproduccion;
+  }
+
+  public SseEmitter suscribir(Long desde) {
+    Suscriptor suscriptor = new Suscriptor(new SseEmitter(timeoutMs));
+    suscriptor.emitter.onCompletion(() -> suscriptores.remove(suscriptor));
+    suscriptor.emitter.onTimeout(() -> suscriptores.remove(suscriptor));
+    suscriptor.emitter.onError(error -> suscriptores.remove(suscriptor));
+
+    despachador.getObject().sinDespachar(() -> {
+      synchronized (suscriptor) {
+        suscriptores.add(suscriptor);
+        if (desde != null) {
+          suscriptor.enviar(transactionTemplate.execute(estado -> eventoOutboxRepository
+              .findByPublicadoTrueAndSecuenciaGreaterThanOrderBySecuenciaAsc(desde, Limit.of(maximoReproduccion)).stream()
+              .map(outbox::aEvento)
+              .toList()));
+        }
+      }
+    });
+    return suscriptor.emitter;
+  }
+
+  @Override
+  public void publicar(List<EventoProductoDTO> eventos) {
+    for (Suscriptor suscriptor : suscriptores) {
+      synchronized (suscriptor) {
+        if (!suscriptor.enviar(eventos)) {
+          suscriptores.remove(suscriptor);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("productos.outbox.suscriptores", suscriptores, List::size)
+        .register(registry);
+  }
+
+  private static final class Suscriptor {
+    private final SseEmitter emitter;
+
+    private Suscriptor(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+
+    private boolean enviar(List<EventoProductoDTO> eventos) {
+      try {
+        for (EventoProductoDTO evento : eventos) {
+          emitter.send(SseEmitter.event()
+              .id(String.valueOf(evento.getId()))
+              .name(evento.getTipo().name())
+              .data(evento, MediaType.APPLICATION_JSON));
+        }
+        return true;
+      } catch (IOException | IllegalStateException e) {
+        emitter.completeWithError(e);
+        return false;
+      }
+    }
+  }
+}
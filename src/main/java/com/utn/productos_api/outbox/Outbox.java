@@ -0,0 +1,55 @@
+package com.utn.productos_api.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.dto.EventoProductoDTO;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.model.EventoOutbox;
+import com.utn.productos_api.repository.EventoOutboxRepository;
+import java.time.Instant;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "productos.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class Outbox {
+
+  private final EventoOutboxRepository eventoOutboxRepository;
+  private final ObjectMapper objectMapper;
+
+  public Outbox(EventoOutboxRepository eventoOutboxRepository, ObjectMapper objectMapper) {
+    this.eventoOutboxRepository = eventoOutboxRepository;
+    this.objectMapper = objectMapper;
+  }
+
+  @EventListener
+  public void registrar(ProductoModificadoEvent evento) {
+    ProductoResponseDTO producto = evento.actual() != null ? evento.actual() : evento.anterior();
+    try {
+      eventoOutboxRepository.save(EventoOutbox.builder()
+          .tipo(evento.tipo())
+          .productoId(evento.id())
+          .payload(objectMapper.writeValueAsString(producto))
+          .creado(Instant.now())
+          .build());
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("No se pudo registrar el evento del producto " + evento.id(), e);
+    }
+  }
+
+  public EventoProductoDTO aEvento(EventoOutbox evento) {
+    try {
+      return EventoProductoDTO.builder()
+          .id(evento.getSecuencia())
+          .tipo(evento.getTipo())
+          .productoId(evento.getProductoId())
+          .producto(objectMapper.readValue(evento.getPayload(), ProductoResponseDTO.class))
+          .fecha(evento.getCreado())
+          .build();
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("El evento " + evento.getId() + " del outbox no es válido", e);
+    }
+  }
+}
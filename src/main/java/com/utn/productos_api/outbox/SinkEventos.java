@@ -0,0 +1,9 @@
+package com.utn.productos_api.outbox;
+
+import com.utn.productos_api.dto.EventoProductoDTO;
+import java.util.List;
+
+public interface SinkEventos {
+
+  void publicar(List<EventoProductoDTO> eventos);
+}
@@ -0,0 +1,46 @@
+package com.utn.productos_api.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.dto.EventoProductoDTO;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "productos.outbox.sink", havingValue = "archivo")
+public class SinkEventosArchivo implements SinkEventos {
+
+  private final Path archivo;
+  private final ObjectMapper objectMapper;
+
+  public SinkEventosArchivo(
+      @Value("${productos.outbox.archivo:./data/outbox/eventos.ndjson}") Path archivo,
+      ObjectMapper objectMapper) {
+    this.archivo = archivo;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public synchronized void publicar(List<EventoProductoDTO> eventos) {
+    try {
+      Files.createDirectories(archivo.toAbsolutePath().getParent());
+      try (BufferedWriter escritor = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+        for (EventoProductoDTO evento : eventos) {
+          escritor.write(objectMapper.writeValueAsString(evento));
+          escritor.newLine();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
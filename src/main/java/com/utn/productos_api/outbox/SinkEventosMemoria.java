@@ -0,0 +1,35 @@
+package com.utn.productos_api.outbox;
+
+import com.utn.productos_api.dto.EventoProductoDTO;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "productos.outbox.sink", havingValue = "memoria", matchIfMissing = true)
+public class SinkEventosMemoria implements SinkEventos {
+
+  private final int capacidad;
+  private final Deque<EventoProductoDTO> eventos = new ArrayDeque<>();
+
+  public SinkEventosMemoria(@Value("${productos.outbox.memoria.capacidad:10000}") int capacidad) {
+    this.capacidad = capacidad;
+  }
+
+  @Override
+  public synchronized void publicar(List<EventoProductoDTO> nuevos) {
+    for (EventoProductoDTO evento : nuevos) {
+      if (eventos.size() == capacidad) {
+        eventos.removeFirst();
+      }
+      eventos.addLast(evento);
+    }
+  }
+
+  public synchronized List<EventoProductoDTO> eventos() {
+    return List.copyOf(eventos);
+  }
+}
@@ -0,0 +1,61 @@
+package com.utn.productos_api.replicas;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+
+final class ContextoRuteo {
+
+  static final String COOKIE = "productos-lectura-primaria";
+
+  private static final ThreadLocal<Sesion> SESION = new ThreadLocal<>();
+
+  private ContextoRuteo() {
+  }
+
+  static void iniciar(HttpServletResponse response, boolean lecturaPropia, Duration ventana) {
+    SESION.set(new Sesion(response, ventana, lecturaPropia));
+  }
+
+  static void finalizar() {
+    SESION.remove();
+  }
+
+  static boolean requierePrimaria() {
+    Sesion sesion = SESION.get();
+    return sesion != null && sesion.primaria;
+  }
+
+  static void registrarEscritura() {
+    Sesion sesion = SESION.get();
+    if (sesion == null || sesion.escribio) {
+      return;
+    }
+    sesion.escribio = true;
+    sesion.primaria = true;
+    if (sesion.response.isCommitted()) {
+      return;
+    }
+
+    long hasta = System.currentTimeMillis() + sesion.ventana.toMillis();
+    Cookie cookie = new Cookie(COOKIE, String.valueOf(hasta));
+    cookie.setPath("/");
+    cookie.setHttpOnly(true);
+    cookie.setMaxAge((int) Math.max(1, sesion.ventana.toSeconds()));
+    sesion.response.addCookie(cookie);
+  }
+
+  private static final class Sesion {
+
+    private final HttpServletResponse response;
+    private final Duration ventana;
+    private boolean primaria;
+    private boolean escribio;
+
+    private Sesion(HttpServletResponse response, Duration ventana, boolean primaria) {
+      this.response = response;
+      this.ventana = ventana;
+      this.primaria = primaria;
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.utn.productos_api.replicas;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class GrupoReplicas implements MeterBinder, AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(GrupoReplicas.class);
+  private static final long SIN_LATIDO = -1;
+
+  private final HikariDataSource primaria;
+  private final List<HikariDataSource> replicas;
+  private final long retrasoMaximoMs;
+  private final TransactionTemplate transaccionPrimaria;
+
+  private final AtomicLongArray retrasos;
+  private final AtomicInteger siguiente = new AtomicInteger();
+  private final AtomicLong lecturasReplica = new AtomicLong();
+  private final AtomicLong lecturasPrimaria = new AtomicLong();
+  private volatile int[] disponibles = new int[0];
+  private boolean tablaCreada;
+
+  public GrupoReplicas(HikariDataSource primaria, List<HikariDataSource> replicas, Duration retrasoMaximo) {
+    this.primaria = primaria;
+    this.replicas = List.copyOf(replicas);
+    this.retrasoMaximoMs = retrasoMaximo.toMillis();
+    this.transaccionPrimaria = new TransactionTemplate(new DataSourceTransactionManager(primaria));
+    this.retrasos = new AtomicLongArray(replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      retrasos.set(i, SIN_LATIDO);
+    }
+  }
+
+  public HikariDataSource getPrimaria() {
+    return primaria;
+  }
+
+  public List<HikariDataSource> getReplicas() {
+    return replicas;
+  }
+
+  public Integer elegirReplica(boolean forzarPrimaria) {
+    int[] candidatas = disponibles;
+    if (forzarPrimaria || candidatas.length == 0) {
+      lecturasPrimaria.incrementAndGet();
+      return null;
+    }
+    lecturasReplica.incrementAndGet();
+    return candidatas[Math.floorMod(siguiente.getAndIncrement(), candidatas.length)];
+  }
+
+  @Scheduled(fixedDelayString = "${productos.replicas.intervalo-latido-ms:1000}")
+  public synchronized void actualizarLatido() {
+    long ahora = System.currentTimeMillis();
+    try {
+      JdbcTemplate jdbcPrimaria = new JdbcTemplate(primaria);
+      transaccionPrimaria.executeWithoutResult(estado -> {
+        if (!tablaCreada) {
+          jdbcPrimaria.execute("create table if not exists latido_replica (id int primary key, instante bigint)");
+        }
+        jdbcPrimaria.update("merge into latido_replica (id, instante) key (id) values (1, ?)", ahora);
+      });
+      tablaCreada = true;
+    } catch (DataAccessException e) {
+      log.warn("No se pudo registrar el latido en la base primaria", e);
+    }
+
+    for (int i = 0; i < replicas.size(); i++) {
+      retrasos.set(i, retraso(replicas.get(i), ahora));
+    }
+    disponibles = IntStream.range(0, replicas.size())
+        .filter(i -> retrasos.get(i) != SIN_LATIDO && retrasos.get(i) <= retrasoMaximoMs)
+        .toArray();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("productos.replicas.lecturas", lecturasReplica, AtomicLong::get)
+        .tag("destino", "replica")
+        .description("Transacciones de solo lectura atendidas por una réplica")
+        .register(registry);
+    FunctionCounter.builder("productos.replicas.lecturas", lecturasPrimaria, AtomicLong::get)
+        .tag("destino", "primaria")
+        .description("Transacciones de solo lectura derivadas a la primaria por lectura propia o retraso")
+        .register(registry);
+    for (int i = 0; i < replicas.size(); i++) {
+      int indice = i;
+      Gauge.builder("productos.replicas.retraso", retrasos, valores -> valores.get(indice) / 1000.0)
+          .tag("replica", replicas.get(i).getPoolName())
+          .baseUnit("seconds")
+          .description("Retraso de la réplica respecto del último latido de la primaria; negativo si no responde")
+          .register(registry);
+    }
+  }
+
+  @Override
+  public void close() {
+    replicas.forEach(HikariDataSource::close);
+    primaria.close();
+  }
+
+  private long retraso(HikariDataSource replica, long ahora) {
+    try {
+      List<Long> latidos = new JdbcTemplate(replica)
+          .queryForList("select instante from latido_replica where id = 1", Long.class);
+      return latidos.isEmpty() ? SIN_LATIDO : Math.max(0, ahora - latidos.get(0));
+    } catch (DataAccessException e) {
+      log.debug("No se pudo leer el latido de la réplica {}", replica.getPoolName(), e);
+      return SIN_LATIDO;
+    }
+  }
+}
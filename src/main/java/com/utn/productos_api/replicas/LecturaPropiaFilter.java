@@ -0,0 +1,46 @@
+package com.utn.productos_api.replicas;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class LecturaPropiaFilter extends OncePerRequestFilter {
+
+  private final Duration ventana;
+
+  public LecturaPropiaFilter(Duration ventana) {
+    this.ventana = ventana;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    ContextoRuteo.iniciar(response, escribioRecientemente(request), ventana);
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      ContextoRuteo.finalizar();
+    }
+  }
+
+  private static boolean escribioRecientemente(HttpServletRequest request) {
+    if (request.getCookies() == null) {
+      return false;
+    }
+    for (Cookie cookie : request.getCookies()) {
+      if (cookie.getName().equals(ContextoRuteo.COOKIE)) {
+        try {
+          return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+          return false;
+        }
+      }
+    }
+    return false;
+  }
+}
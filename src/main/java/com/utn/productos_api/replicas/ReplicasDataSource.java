@@ -0,0 +1,40 @@
+package com.utn.productos_api.replicas;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicasDataSource extends AbstractRoutingDataSource {
+
+  private static final String PRIMARIA = "primaria";
+
+  private final GrupoReplicas grupo;
+
+  public ReplicasDataSource(GrupoReplicas grupo) {
+    this.grupo = grupo;
+
+    Map<Object, Object> destinos = new HashMap<>();
+    destinos.put(PRIMARIA, grupo.getPrimaria());
+    for (int i = 0; i < grupo.getReplicas().size(); i++) {
+      destinos.put(i, grupo.getReplicas().get(i));
+    }
+    setTargetDataSources(destinos);
+    setDefaultTargetDataSource(grupo.getPrimaria());
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (TransactionSynchronizationManager.isActualTransactionActive()) {
+        ContextoRuteo.registrarEscritura();
+      }
+      return PRIMARIA;
+    }
+
+    Integer replica = grupo.elegirReplica(ContextoRuteo.requierePrimaria());
+    return replica == null ? PRIMARIA : replica;
+  }
+}
@@ -0,0 +1,31 @@
+package com.utn.productos_api.repository;
+
+import com.utn.productos_api.model.ClaveIdempotencia;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ClaveIdempotenciaRepository extends JpaRepository<ClaveIdempotencia, String> {
+
+  @Transactional
+  @Modifying
+  @Query("update ClaveIdempotencia c set c.cuerpo = :cuerpo, c.expira = :expira where c.clave = :clave and c.huella = :huella")
+  int completar(String clave, String huella, String cuerpo, Instant expira);
+
+  @Transactional
+  @Modifying
+  @Query("delete from ClaveIdempotencia c where c.clave = :clave and c.cuerpo is null")
+  int liberar(String clave);
+
+  @Transactional
+  @Modifying
+  @Query("delete from ClaveIdempotencia c where c.clave = :clave and c.expira < :ahora")
+  int eliminarSiExpiro(String clave, Instant ahora);
+
+  @Transactional
+  @Modifying
+  @Query("delete from ClaveIdempotencia c where c.expira < :ahora")
+  int eliminarExpiradas(Instant ahora);
+}
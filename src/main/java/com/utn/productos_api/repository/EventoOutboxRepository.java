@@ -0,0 +1,29 @@
+package com.utn.productos_api.repository;
+
+import com.utn.productos_api.model.EventoOutbox;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface EventoOutboxRepository extends JpaRepository<EventoOutbox, Long> {
+
+  @Query("select e from EventoOutbox e where e.publicado = false order by e.secuencia asc nulls last, e.id asc")
+  List<EventoOutbox> findPendientes(Limit limit);
+
+  @Query("select coalesce(max(e.secuencia), 0) from EventoOutbox e")
+  long findUltimaSecuencia();
+
+  List<EventoOutbox> findByPublicadoTrueAndSecuenciaGreaterThanOrderBySecuenciaAsc(Long secuencia, Limit limit);
+
+  @Modifying
+  @Query("update EventoOutbox e set e.publicado = true, e.publicadoEn = :ahora where e.id in :ids")
+  int marcarPublicados(List<Long> ids, Instant ahora);
+
+  @Modifying
+  @Query("delete from EventoOutbox e where e.publicado = true and e.publicadoEn < :limite " +
+      "and e.secuencia < (select max(u.secuencia) from EventoOutbox u)")
+  int eliminarPublicadosAntesDe(Instant limite);
+}
@@ -0,0 +1,12 @@
+package com.utn.productos_api.repository;
+
+import com.utn.productos_api.dto.FiltroProductosDTO;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import java.util.List;
+
+public interface ProductoFiltroRepository {
+
+  List<ProductoResponseDTO> filtrar(FiltroProductosDTO filtro, int limite);
+
+  List<ProductoResponseDTO> buscarPorTexto(String consulta, int limite);
+}
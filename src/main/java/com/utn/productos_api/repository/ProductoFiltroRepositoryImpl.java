@@ -0,0 +1,122 @@
+package com.utn.productos_api.repository;
+
+import com.utn.productos_api.dto.FiltroProductosDTO;
+import com.utn.productos_api.dto.OrdenProducto;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.model.Producto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import org.springframework.data.domain.Sort;
+
+class ProductoFiltroRepositoryImpl implements ProductoFiltroRepository {
+
+  private static final char ESCAPE = '\\';
+  private static final Pattern SEPARADORES = Pattern.compile("\\s+");
+
+  private final EntityManager entityManager;
+
+  ProductoFiltroRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public List<ProductoResponseDTO> filtrar(FiltroProductosDTO filtro, int limite) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<ProductoResponseDTO> query = cb.createQuery(ProductoResponseDTO.class);
+    Root<Producto> producto = query.from(Producto.class);
+
+    query.select(seleccion(cb, producto))
+        .where(predicados(cb, producto, filtro).toArray(Predicate[]::new))
+        .orderBy(orden(cb, producto, filtro));
+
+    return entityManager.createQuery(query)
+        .setMaxResults(limite)
+        .getResultList();
+  }
+
+  @Override
+  public List<ProductoResponseDTO> buscarPorTexto(String consulta, int limite) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<ProductoResponseDTO> query = cb.createQuery(ProductoResponseDTO.class);
+    Root<Producto> producto = query.from(Producto.class);
+
+    List<Predicate> predicados = new ArrayList<>();
+    for (String termino : SEPARADORES.split(consulta.toLowerCase(Locale.ROOT).strip())) {
+      String patron = "%" + escaparPatron(termino) + "%";
+      predicados.add(cb.or(
+          cb.like(cb.lower(producto.get("nombre")), patron, ESCAPE),
+          cb.like(cb.lower(producto.get("descripcion")), patron, ESCAPE)));
+    }
+
+    query.select(seleccion(cb, producto))
+        .where(predicados.toArray(Predicate[]::new))
+        .orderBy(cb.asc(producto.get("id")));
+
+    return entityManager.createQuery(query)
+        .setMaxResults(limite)
+        .getResultList();
+  }
+
+  private CompoundSelection<ProductoResponseDTO> seleccion(CriteriaBuilder cb, Root<Producto> producto) {
+    return cb.construct(ProductoResponseDTO.class,
+        producto.get("id"),
+        producto.get("nombre"),
+        producto.get("descripcion"),
+        producto.get("precio"),
+        producto.get("stock"),
+        producto.get("categoria"),
+        producto.get("version"),
+        producto.get("ultimaModificacion"));
+  }
+
+  private List<Predicate> predicados(CriteriaBuilder cb, Root<Producto> producto, FiltroProductosDTO filtro) {
+    List<Predicate> predicados = new ArrayList<>();
+    if (filtro.getCategoria() != null) {
+      predicados.add(cb.equal(producto.get("categoria"), filtro.getCategoria()));
+    }
+    if (filtro.getPrecioMinimo() != null) {
+      predicados.add(cb.greaterThanOrEqualTo(producto.<Double>get("precio"), filtro.getPrecioMinimo()));
+    }
+    if (filtro.getPrecioMaximo() != null) {
+      predicados.add(cb.lessThanOrEqualTo(producto.<Double>get("precio"), filtro.getPrecioMaximo()));
+    }
+    if (Boolean.TRUE.equals(filtro.getConStock())) {
+      predicados.add(cb.greaterThan(producto.<Integer>get("stock"), 0));
+    }
+    if (filtro.getNombre() != null && !filtro.getNombre().isBlank()) {
+      predicados.add(cb.like(producto.<String>get("nombre"), escaparPatron(filtro.getNombre()) + "%", ESCAPE));
+    }
+    return predicados;
+  }
+
+  private List<Order> orden(CriteriaBuilder cb, Root<Producto> producto, FiltroProductosDTO filtro) {
+    OrdenProducto campo = filtro.getOrdenarPor() != null ? filtro.getOrdenarPor() : OrdenProducto.ID;
+    boolean descendente = filtro.getDireccion() == Sort.Direction.DESC;
+
+    List<Order> orden = new ArrayList<>();
+    if (filtro.getCategoria() != null) {
+      orden.add(descendente ? cb.desc(producto.get("categoria")) : cb.asc(producto.get("categoria")));
+    }
+    orden.add(descendente ? cb.desc(producto.get(campo.getAtributo())) : cb.asc(producto.get(campo.getAtributo())));
+    if (campo != OrdenProducto.ID) {
+      orden.add(descendente ? cb.desc(producto.get("id")) : cb.asc(producto.get("id")));
+    }
+    return orden;
+  }
+
+  private static String escaparPatron(String valor) {
+    return valor
+        .replace("\\", "\\\\")
+        .replace("%", "\\%")
+        .replace("_", "\\_");
+  }
+}
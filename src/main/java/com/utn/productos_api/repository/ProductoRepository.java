@@ -1,11 +1,57 @@
 package com.utn.productos_api.repository;
 
+import com.utn.productos_api.dto.VersionProducto;
 import com.utn.productos_api.model.Categoria;
 import com.utn.productos_api.model.Producto;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface ProductoRepository extends JpaRepository<Producto, Long> {
+public interface ProductoRepository extends JpaRepository<Producto, Long>, ProductoFiltroRepository {
 
+  @Transactional(readOnly = true)
   List<Producto> findByCategoria(Categoria categoria);
+
+  @Transactional(readOnly = true)
+  List<Producto> findByIdIn(Collection<Long> ids);
+
+  @Transactional(readOnly = true)
+  List<Producto> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select p from Producto p order by p.id")
+  Stream<Producto> streamAllOrderById();
+
+  @Transactional
+  @Query("select new com.utn.productos_api.dto.VersionProducto(p.version, p.stock, p.ultimaModificacion) "
+      + "from Producto p where p.id = :id")
+  Optional<VersionProducto> findVersionVigenteById(Long id);
+
+  @Transactional(readOnly = true)
+  @Query("select new com.utn.productos_api.dto.VersionProducto(p.version, p.stock, p.ultimaModificacion) "
+      + "from Producto p where p.id = :id")
+  Optional<VersionProducto> findVersionById(Long id);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Producto p set p.stock = p.stock - :cantidad, p.version = p.version + 1, "
+      + "p.ultimaModificacion = :ahora where p.id = :id and p.stock >= :cantidad")
+  int descontarStock(Long id, int cantidad, Instant ahora);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Producto p set p.stock = p.stock + :cantidad, p.version = p.version + 1, "
+      + "p.ultimaModificacion = :ahora where p.id = :id")
+  int incrementarStock(Long id, int cantidad, Instant ahora);
 }
@@ -0,0 +1,21 @@
+package com.utn.productos_api.repository.reactivo;
+
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.model.Producto;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ProductoReactivoRepository extends R2dbcRepository<Producto, Long> {
+
+  Flux<Producto> findByCategoria(Categoria categoria);
+
+  Flux<Producto> findAllByOrderByIdAsc();
+
+  @Query("select * from producto where id > :id order by id limit :limite")
+  Flux<Producto> buscarPagina(Long id, int limite);
+
+  @Query("select next value for producto_seq")
+  Mono<Long> siguienteValorSecuencia();
+}
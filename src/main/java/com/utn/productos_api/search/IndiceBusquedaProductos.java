@@ -0,0 +1,132 @@
+package com.utn.productos_api.search;
+
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.events.TipoModificacion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class IndiceBusquedaProductos {
+
+  private static final Logger log = LoggerFactory.getLogger(IndiceBusquedaProductos.class);
+
+  private final boolean habilitado;
+  private final JdbcTemplate jdbcTemplate;
+  private final ReentrantReadWriteLock candado = new ReentrantReadWriteLock();
+
+  private IndiceInvertido indice = new IndiceInvertido();
+  private List<ProductoModificadoEvent> pendientes;
+  private volatile boolean construido;
+
+  public IndiceBusquedaProductos(
+      @Value("${productos.busqueda.enabled:true}") boolean habilitado,
+      JdbcTemplate jdbcTemplate) {
+    this.habilitado = habilitado;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public boolean isDisponible() {
+    return habilitado && construido;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void reconstruir() {
+    if (!habilitado) {
+      return;
+    }
+
+    long inicio = System.currentTimeMillis();
+    candado.writeLock().lock();
+    try {
+      pendientes = new ArrayList<>();
+    } finally {
+      candado.writeLock().unlock();
+    }
+
+    IndiceInvertido nuevo = new IndiceInvertido();
+    try {
+      jdbcTemplate.query("select id, nombre, descripcion from producto", fila -> {
+        nuevo.agregar(fila.getLong("id"), fila.getString("nombre"), fila.getString("descripcion"));
+      });
+    } catch (RuntimeException e) {
+      descartarPendientes();
+      throw e;
+    }
+
+    candado.writeLock().lock();
+    try {
+      pendientes.forEach(evento -> aplicar(nuevo, evento));
+      pendientes = null;
+      indice = nuevo;
+      construido = true;
+    } finally {
+      candado.writeLock().unlock();
+    }
+    log.info("Índice de búsqueda reconstruido: {} productos en {} ms",
+        nuevo.documentos(), System.currentTimeMillis() - inicio);
+  }
+
+  public List<ResultadoBusqueda> buscar(String consulta, int limite) {
+    candado.readLock().lock();
+    try {
+      return indice.buscar(consulta, limite);
+    } finally {
+      candado.readLock().unlock();
+    }
+  }
+
+  public int documentosIndexados() {
+    candado.readLock().lock();
+    try {
+      return indice.documentos();
+    } finally {
+      candado.readLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void actualizar(ProductoModificadoEvent evento) {
+    if (!habilitado || evento.tipo() == TipoModificacion.STOCK_ACTUALIZADO) {
+      return;
+    }
+
+    candado.writeLock().lock();
+    try {
+      aplicar(indice, evento);
+      if (pendientes != null) {
+        pendientes.add(evento);
+      }
+    } finally {
+      candado.writeLock().unlock();
+    }
+  }
+
+  private void descartarPendientes() {
+    candado.writeLock().lock();
+    try {
+      pendientes = null;
+    } finally {
+      candado.writeLock().unlock();
+    }
+  }
+
+  private static void aplicar(IndiceInvertido destino, ProductoModificadoEvent evento) {
+    if (evento.tipo() == TipoModificacion.ELIMINADO) {
+      destino.quitar(evento.id());
+      return;
+    }
+
+    ProductoResponseDTO producto = evento.actual();
+    destino.agregar(producto.getId(), producto.getNombre(), producto.getDescripcion());
+  }
+}
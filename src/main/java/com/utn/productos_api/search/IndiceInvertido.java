@@ -0,0 +1,226 @@
+package com.utn.productos_api.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+class IndiceInvertido {
+
+  private static final Pattern DIACRITICOS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARADORES = Pattern.compile("[^\\p{Alnum}]+");
+
+  private static final int PESO_NOMBRE = 3;
+  private static final int PESO_DESCRIPCION = 1;
+  private static final double FACTOR_PREFIJO = 0.6;
+  private static final double FACTOR_DIFUSO = 0.4;
+  private static final int LONGITUD_MINIMA_PREFIJO = 2;
+  private static final int LONGITUD_MINIMA_DIFUSA = 4;
+  private static final int MAXIMO_EXPANSIONES = 64;
+  private static final double FRECUENCIA_DOCUMENTAL_MAXIMA = 0.5;
+  private static final int DOCUMENTOS_MINIMOS_PARA_DESCARTAR = 1000;
+
+  private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+  private final Map<Long, String[]> terminosPorDocumento = new HashMap<>();
+
+  void agregar(Long id, String nombre, String descripcion) {
+    quitar(id);
+
+    Map<String, Integer> frecuencias = new HashMap<>();
+    for (String termino : tokenizar(nombre)) {
+      frecuencias.merge(termino, PESO_NOMBRE, Integer::sum);
+    }
+    for (String termino : tokenizar(descripcion)) {
+      frecuencias.merge(termino, PESO_DESCRIPCION, Integer::sum);
+    }
+    if (frecuencias.isEmpty()) {
+      return;
+    }
+
+    frecuencias.forEach((termino, frecuencia) ->
+        postings.computeIfAbsent(termino, clave -> new HashMap<>()).put(id, frecuencia));
+    terminosPorDocumento.put(id, frecuencias.keySet().toArray(String[]::new));
+  }
+
+  void quitar(Long id) {
+    String[] terminos = terminosPorDocumento.remove(id);
+    if (terminos == null) {
+      return;
+    }
+
+    for (String termino : terminos) {
+      Map<Long, Integer> documentos = postings.get(termino);
+      if (documentos != null) {
+        documentos.remove(id);
+        if (documentos.isEmpty()) {
+          postings.remove(termino);
+        }
+      }
+    }
+  }
+
+  int documentos() {
+    return terminosPorDocumento.size();
+  }
+
+  List<ResultadoBusqueda> buscar(String consulta, int limite) {
+    List<String> terminos = relevantes(List.copyOf(tokenizar(consulta)));
+    if (terminos.isEmpty()) {
+      return List.of();
+    }
+    int frecuenciaMaxima = frecuenciaDocumentalMaxima();
+
+    Map<Long, Double> puntajes = new HashMap<>();
+    for (String termino : terminos) {
+      Map<Long, Integer> exactos = postings.get(termino);
+      if (exactos != null) {
+        puntuar(exactos, 1.0, puntajes);
+      }
+      for (Map<Long, Integer> porPrefijo : expandirPrefijo(termino, frecuenciaMaxima)) {
+        puntuar(porPrefijo, FACTOR_PREFIJO, puntajes);
+      }
+      for (Map<Long, Integer> aproximados : expandirDifuso(termino, frecuenciaMaxima)) {
+        puntuar(aproximados, FACTOR_DIFUSO, puntajes);
+      }
+    }
+
+    return mejores(puntajes, limite);
+  }
+
+  private List<String> relevantes(List<String> terminos) {
+    int frecuenciaMaxima = frecuenciaDocumentalMaxima();
+    List<String> relevantes = terminos.stream()
+        .filter(termino -> frecuenciaDocumental(termino) <= frecuenciaMaxima)
+        .toList();
+    return relevantes.isEmpty() ? terminos : relevantes;
+  }
+
+  private int frecuenciaDocumentalMaxima() {
+    if (documentos() < DOCUMENTOS_MINIMOS_PARA_DESCARTAR) {
+      return Integer.MAX_VALUE;
+    }
+    return (int) (documentos() * FRECUENCIA_DOCUMENTAL_MAXIMA);
+  }
+
+  private int frecuenciaDocumental(String termino) {
+    Map<Long, Integer> documentos = postings.get(termino);
+    return documentos == null ? 0 : documentos.size();
+  }
+
+  private void puntuar(Map<Long, Integer> documentos, double factor, Map<Long, Double> puntajes) {
+    double idf = Math.log(1.0 + (double) documentos() / documentos.size());
+    documentos.forEach((id, frecuencia) ->
+        puntajes.merge(id, factor * (1.0 + Math.log(frecuencia)) * idf, Double::sum));
+  }
+
+  private List<Map<Long, Integer>> expandirPrefijo(String termino, int frecuenciaMaxima) {
+    if (termino.length() < LONGITUD_MINIMA_PREFIJO) {
+      return List.of();
+    }
+
+    List<Map<Long, Integer>> expansiones = new ArrayList<>();
+    for (Map.Entry<String, Map<Long, Integer>> entrada
+        : postings.subMap(termino, false, termino + Character.MAX_VALUE, false).entrySet()) {
+      if (expansiones.size() == MAXIMO_EXPANSIONES) {
+        break;
+      }
+      if (entrada.getValue().size() <= frecuenciaMaxima) {
+        expansiones.add(entrada.getValue());
+      }
+    }
+    return expansiones;
+  }
+
+  private List<Map<Long, Integer>> expandirDifuso(String termino, int frecuenciaMaxima) {
+    if (termino.length() < LONGITUD_MINIMA_DIFUSA) {
+      return List.of();
+    }
+
+    int distanciaMaxima = termino.length() < 8 ? 1 : 2;
+    String inicial = termino.substring(0, 1);
+    List<Map<Long, Integer>> expansiones = new ArrayList<>();
+    for (Map.Entry<String, Map<Long, Integer>> entrada
+        : postings.subMap(inicial, true, inicial + Character.MAX_VALUE, false).entrySet()) {
+      String candidato = entrada.getKey();
+      if (candidato.equals(termino) || candidato.startsWith(termino)
+          || Math.abs(candidato.length() - termino.length()) > distanciaMaxima
+          || entrada.getValue().size() > frecuenciaMaxima) {
+        continue;
+      }
+      if (distancia(termino, candidato, distanciaMaxima) <= distanciaMaxima) {
+        expansiones.add(entrada.getValue());
+        if (expansiones.size() == MAXIMO_EXPANSIONES) {
+          break;
+        }
+      }
+    }
+    return expansiones;
+  }
+
+  private static List<ResultadoBusqueda> mejores(Map<Long, Double> puntajes, int limite) {
+    Comparator<ResultadoBusqueda> orden = Comparator.comparingDouble(ResultadoBusqueda::puntaje)
+        .thenComparing(ResultadoBusqueda::id, Comparator.reverseOrder());
+    PriorityQueue<ResultadoBusqueda> mejores = new PriorityQueue<>(limite + 1, orden);
+    puntajes.forEach((id, puntaje) -> {
+      mejores.offer(new ResultadoBusqueda(id, puntaje));
+      if (mejores.size() > limite) {
+        mejores.poll();
+      }
+    });
+
+    List<ResultadoBusqueda> resultado = new ArrayList<>(mejores);
+    resultado.sort(orden.reversed());
+    return resultado;
+  }
+
+  static Set<String> tokenizar(String texto) {
+    Set<String> terminos = new LinkedHashSet<>();
+    if (texto == null || texto.isBlank()) {
+      return terminos;
+    }
+
+    String normalizado = DIACRITICOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+        .replaceAll("")
+        .toLowerCase(Locale.ROOT);
+    for (String termino : SEPARADORES.split(normalizado)) {
+      if (!termino.isEmpty()) {
+        terminos.add(termino);
+      }
+    }
+    return terminos;
+  }
+
+  private static int distancia(String a, String b, int maxima) {
+    int[] anterior = new int[b.length() + 1];
+    int[] actual = new int[b.length() + 1];
+    for (int j = 0; j <= b.length(); j++) {
+      anterior[j] = j;
+    }
+
+    for (int i = 1; i <= a.length(); i++) {
+      actual[0] = i;
+      int minimoFila = actual[0];
+      for (int j = 1; j <= b.length(); j++) {
+        int costo = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+        actual[j] = Math.min(Math.min(actual[j - 1] + 1, anterior[j] + 1), anterior[j - 1] + costo);
+        minimoFila = Math.min(minimoFila, actual[j]);
+      }
+      if (minimoFila > maxima) {
+        return maxima + 1;
+      }
+      int[] intercambio = anterior;
+      anterior = actual;
+      actual = intercambio;
+    }
+    return anterior[b.length()];
+  }
+}
@@ -0,0 +1,4 @@
+package com.utn.productos_api.search;
+
+public record ResultadoBusqueda(Long id, double puntaje) {
+}
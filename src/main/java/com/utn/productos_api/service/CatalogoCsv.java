@@ -0,0 +1,104 @@
+package com.utn.productos_api.service;
+
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+final class CatalogoCsv {
+
+  static final List<String> COLUMNAS = List.of("id", "nombre", "descripcion", "precio", "stock", "categoria");
+  static final int MAXIMO_CARACTERES_CAMPO = 4096;
+
+  private CatalogoCsv() {
+  }
+
+  static void escribirEncabezado(Writer salida) throws IOException {
+    salida.write(String.join(",", COLUMNAS));
+    salida.write("\r\n");
+  }
+
+  static void escribir(Writer salida, ProductoResponseDTO producto) throws IOException {
+    salida.write(String.valueOf(producto.getId()));
+    salida.write(',');
+    escribirCampo(salida, producto.getNombre());
+    salida.write(',');
+    escribirCampo(salida, producto.getDescripcion());
+    salida.write(',');
+    salida.write(producto.getPrecio() != null ? producto.getPrecio().toString() : "");
+    salida.write(',');
+    salida.write(producto.getStock() != null ? producto.getStock().toString() : "");
+    salida.write(',');
+    salida.write(producto.getCategoria() != null ? producto.getCategoria().name() : "");
+    salida.write("\r\n");
+  }
+
+  static List<String> leerRegistro(Reader entrada) throws IOException {
+    int caracter = entrada.read();
+    if (caracter == -1) {
+      return null;
+    }
+
+    List<String> campos = new ArrayList<>(COLUMNAS.size());
+    StringBuilder campo = new StringBuilder();
+    boolean entreComillas = false;
+    boolean excedido = false;
+    while (caracter != -1) {
+      if (entreComillas) {
+        if (caracter == '"') {
+          entrada.mark(1);
+          int siguiente = entrada.read();
+          if (siguiente == '"') {
+            if (!excedido) {
+              agregar(campo, caracter);
+            }
+          } else {
+            entreComillas = false;
+            if (siguiente == -1) {
+              break;
+            }
+            entrada.reset();
+          }
+        } else if (!excedido) {
+          agregar(campo, caracter);
+        }
+      } else if (caracter == '"' && campo.isEmpty()) {
+        entreComillas = true;
+      } else if (caracter == ',') {
+        if (!excedido) {
+          campos.add(campo.toString());
+          campo.setLength(0);
+          excedido = campos.size() == COLUMNAS.size();
+        }
+      } else if (caracter == '\n') {
+        break;
+      } else if (caracter != '\r' && !excedido) {
+        agregar(campo, caracter);
+      }
+      caracter = entrada.read();
+    }
+    campos.add(campo.toString());
+    return campos;
+  }
+
+  private static void agregar(StringBuilder campo, int caracter) {
+    if (campo.length() < MAXIMO_CARACTERES_CAMPO) {
+      campo.append((char) caracter);
+    }
+  }
+
+  private static void escribirCampo(Writer salida, String valor) throws IOException {
+    if (valor == null) {
+      return;
+    }
+    if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+      salida.write(valor);
+      return;
+    }
+    salida.write('"');
+    salida.write(valor.replace("\"", "\"\""));
+    salida.write('"');
+  }
+}
@@ -0,0 +1,44 @@
+package com.utn.productos_api.service;
+
+import com.utn.productos_api.exceptions.ParametroInvalidoException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class CursorPaginacion {
+
+  private static final String PREFIJO = "id:";
+
+  private CursorPaginacion() {
+  }
+
+  public static String codificar(Long ultimoId) {
+    byte[] valor = (PREFIJO + ultimoId).getBytes(StandardCharsets.UTF_8);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(valor);
+  }
+
+  public static int resolverLimite(Integer limite, int limitePorDefecto, int limiteMaximo) {
+    if (limite == null) {
+      return limitePorDefecto;
+    }
+    if (limite < 1 || limite > limiteMaximo) {
+      throw new ParametroInvalidoException("El limite debe estar entre 1 y " + limiteMaximo);
+    }
+    return limite;
+  }
+
+  public static Long decodificar(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return 0L;
+    }
+
+    try {
+      String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      if (!valor.startsWith(PREFIJO)) {
+        throw new ParametroInvalidoException("Cursor de paginación inválido: " + cursor);
+      }
+      return Long.parseLong(valor.substring(PREFIJO.length()));
+    } catch (IllegalArgumentException e) {
+      throw new ParametroInvalidoException("Cursor de paginación inválido: " + cursor);
+    }
+  }
+}
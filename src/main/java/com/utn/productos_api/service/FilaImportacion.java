@@ -0,0 +1,14 @@
+package com.utn.productos_api.service;
+
+import com.utn.productos_api.dto.ProductoDTO;
+
+public record FilaImportacion(Long id, ProductoDTO producto, String error) {
+
+  public static FilaImportacion valida(Long id, ProductoDTO producto) {
+    return new FilaImportacion(id, producto, null);
+  }
+
+  public static FilaImportacion invalida(String error) {
+    return new FilaImportacion(null, null, error);
+  }
+}
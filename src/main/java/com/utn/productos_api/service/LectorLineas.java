@@ -0,0 +1,40 @@
+package com.utn.productos_api.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+public final class LectorLineas {
+
+  public static final int MAXIMO_CARACTERES_LINEA = 8192;
+
+  private final Reader entrada;
+  private final StringBuilder linea = new StringBuilder();
+  private boolean excedida;
+
+  public LectorLineas(Reader entrada) {
+    this.entrada = entrada;
+  }
+
+  public String leer() throws IOException {
+    int caracter = entrada.read();
+    if (caracter == -1) {
+      return null;
+    }
+
+    linea.setLength(0);
+    excedida = false;
+    while (caracter != -1 && caracter != '\n') {
+      if (linea.length() < MAXIMO_CARACTERES_LINEA) {
+        linea.append((char) caracter);
+      } else {
+        excedida = true;
+      }
+      caracter = entrada.read();
+    }
+    return linea.toString();
+  }
+
+  public boolean excedida() {
+    return excedida;
+  }
+}
@@ -0,0 +1,219 @@
+package com.utn.productos_api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.dto.FormatoCatalogo;
+import com.utn.productos_api.dto.ProductoDTO;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.dto.ResultadoImportacionDTO;
+import com.utn.productos_api.exceptions.ParametroInvalidoException;
+import com.utn.productos_api.mapper.ProductoMapper;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.model.Producto;
+import com.utn.productos_api.stock.StockLedger;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.stereotype.Service;
+
+@Service
+@Timed(value = "productos.servicio", histogram = true)
+public class ProductoCatalogoService {
+
+  private static final int TAMANIO_FETCH = 500;
+  private static final int TAMANIO_BUFFER = 64 * 1024;
+  private static final List<String> COLUMNAS_OBLIGATORIAS = List.of("nombre", "precio", "stock", "categoria");
+  private static final String FORMATO_JSON_INVALIDO = "El registro no tiene un formato JSON válido";
+  private static final String VALORES_INVALIDOS = "El registro tiene un precio, stock, id o categoría con formato inválido";
+
+  private final SessionFactory sessionFactory;
+  private final ProductoMapper mapper;
+  private final StockLedger stockLedger;
+  private final ProductoLoteService productoLoteService;
+  private final ObjectMapper objectMapper;
+
+  public ProductoCatalogoService(EntityManagerFactory entityManagerFactory, ProductoMapper mapper,
+      StockLedger stockLedger, ProductoLoteService productoLoteService, ObjectMapper objectMapper) {
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    this.mapper = mapper;
+    this.stockLedger = stockLedger;
+    this.productoLoteService = productoLoteService;
+    this.objectMapper = objectMapper;
+  }
+
+  public void exportar(FormatoCatalogo formato, OutputStream salida) throws IOException {
+    Writer escritor = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8), TAMANIO_BUFFER);
+    if (formato == FormatoCatalogo.CSV) {
+      CatalogoCsv.escribirEncabezado(escritor);
+    }
+
+    try (StatelessSession sesion = sessionFactory.openStatelessSession();
+        ScrollableResults<Producto> productos = sesion
+            .createQuery("from Producto p order by p.id", Producto.class)
+            .setFetchSize(TAMANIO_FETCH)
+            .scroll(ScrollMode.FORWARD_ONLY)) {
+      while (productos.next()) {
+        ProductoResponseDTO producto = stockLedger.aplicarStock(mapper.toProductoResponseDTO(productos.get()));
+        if (formato == FormatoCatalogo.CSV) {
+          CatalogoCsv.escribir(escritor, producto);
+        } else {
+          escritor.write(objectMapper.writeValueAsString(producto));
+          escritor.write('\n');
+        }
+      }
+    }
+    escritor.flush();
+  }
+
+  public ResultadoImportacionDTO importar(FormatoCatalogo formato, InputStream entrada) throws IOException {
+    BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), TAMANIO_BUFFER);
+    Iterator<FilaImportacion> filas = formato == FormatoCatalogo.CSV ? filasCsv(lector) : filasNdjson(lector);
+    return productoLoteService.importar(filas);
+  }
+
+  private Iterator<FilaImportacion> filasCsv(BufferedReader lector) throws IOException {
+    List<String> encabezado = CatalogoCsv.leerRegistro(lector);
+    if (encabezado == null) {
+      throw new ParametroInvalidoException("El archivo CSV está vacío");
+    }
+
+    if (encabezado.size() > CatalogoCsv.COLUMNAS.size()) {
+      throw new ParametroInvalidoException("El encabezado del CSV supera el máximo de " + CatalogoCsv.COLUMNAS.size() + " columnas");
+    }
+
+    Map<String, Integer> posiciones = new HashMap<>();
+    for (int i = 0; i < encabezado.size(); i++) {
+      posiciones.put(encabezado.get(i).replace("\uFEFF", "").trim().toLowerCase(), i);
+    }
+    if (!posiciones.keySet().containsAll(COLUMNAS_OBLIGATORIAS)) {
+      throw new ParametroInvalidoException("El encabezado del CSV debe incluir las columnas " + COLUMNAS_OBLIGATORIAS);
+    }
+
+    return new LectorFilas() {
+      @Override
+      FilaImportacion leer() throws IOException {
+        List<String> campos = CatalogoCsv.leerRegistro(lector);
+        while (campos != null && campos.size() == 1 && campos.get(0).isBlank()) {
+          campos = CatalogoCsv.leerRegistro(lector);
+        }
+        return campos == null ? null : filaCsv(campos, posiciones, encabezado.size());
+      }
+    };
+  }
+
+  private FilaImportacion filaCsv(List<String> campos, Map<String, Integer> posiciones, int columnas) {
+    if (campos.size() > CatalogoCsv.COLUMNAS.size()) {
+      return FilaImportacion.invalida("El registro supera el máximo de " + CatalogoCsv.COLUMNAS.size() + " columnas");
+    }
+    if (campos.size() != columnas) {
+      return FilaImportacion.invalida("El registro tiene " + campos.size() + " columnas y el encabezado " + columnas);
+    }
+
+    try {
+      ProductoDTO producto = new ProductoDTO();
+      producto.setNombre(valor(campos, posiciones, "nombre"));
+      producto.setDescripcion(valor(campos, posiciones, "descripcion"));
+      String precio = valor(campos, posiciones, "precio");
+      producto.setPrecio(precio != null ? Double.valueOf(precio) : null);
+      String stock = valor(campos, posiciones, "stock");
+      producto.setStock(stock != null ? Integer.valueOf(stock) : null);
+      String categoria = valor(campos, posiciones, "categoria");
+      producto.setCategoria(categoria != null ? Categoria.valueOf(categoria) : null);
+      String id = valor(campos, posiciones, "id");
+      return FilaImportacion.valida(id != null ? Long.valueOf(id) : null, producto);
+    } catch (IllegalArgumentException e) {
+      return FilaImportacion.invalida(VALORES_INVALIDOS);
+    }
+  }
+
+  private static String valor(List<String> campos, Map<String, Integer> posiciones, String columna) {
+    Integer posicion = posiciones.get(columna);
+    if (posicion == null) {
+      return null;
+    }
+    String valor = campos.get(posicion).trim();
+    return valor.isEmpty() ? null : valor;
+  }
+
+  private Iterator<FilaImportacion> filasNdjson(BufferedReader lector) {
+    LectorLineas lineas = new LectorLineas(lector);
+    return new LectorFilas() {
+      @Override
+      FilaImportacion leer() throws IOException {
+        String linea;
+        while ((linea = lineas.leer()) != null) {
+          if (lineas.excedida()) {
+            return FilaImportacion.invalida("El registro supera el máximo de " + LectorLineas.MAXIMO_CARACTERES_LINEA + " caracteres");
+          }
+          if (!linea.isBlank()) {
+            return filaNdjson(linea);
+          }
+        }
+        return null;
+      }
+    };
+  }
+
+  private FilaImportacion filaNdjson(String linea) {
+    try {
+      JsonNode nodo = objectMapper.readTree(linea);
+      JsonNode id = nodo.get("id");
+      boolean sinId = id == null || id.isNull();
+      if (!sinId && !id.canConvertToLong()) {
+        return FilaImportacion.invalida(VALORES_INVALIDOS);
+      }
+      return FilaImportacion.valida(sinId ? null : id.asLong(), objectMapper.treeToValue(nodo, ProductoDTO.class));
+    } catch (JsonProcessingException e) {
+      return FilaImportacion.invalida(FORMATO_JSON_INVALIDO);
+    }
+  }
+
+  private abstract static class LectorFilas implements Iterator<FilaImportacion> {
+    private FilaImportacion siguiente;
+    private boolean terminado;
+
+    abstract FilaImportacion leer() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+      if (siguiente == null && !terminado) {
+        try {
+          siguiente = leer();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        terminado = siguiente == null;
+      }
+      return siguiente != null;
+    }
+
+    @Override
+    public FilaImportacion next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      FilaImportacion fila = siguiente;
+      siguiente = null;
+      return fila;
+    }
+  }
+}
@@ -0,0 +1,296 @@
+package com.utn.productos_api.service;
+
+import com.utn.productos_api.dto.ActualizarProductoLoteDTO;
+import com.utn.productos_api.dto.ActualizarStockLoteDTO;
+import com.utn.productos_api.dto.EstadoItemLote;
+import com.utn.productos_api.dto.ProductoDTO;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.dto.ResultadoImportacionDTO;
+import com.utn.productos_api.dto.ResultadoItemLoteDTO;
+import com.utn.productos_api.dto.ResultadoLoteDTO;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.exceptions.ParametroInvalidoException;
+import com.utn.productos_api.mapper.ProductoMapper;
+import com.utn.productos_api.model.Producto;
+import com.utn.productos_api.repository.ProductoRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@Timed(value = "productos.servicio", histogram = true)
+public class ProductoLoteService {
+
+  private static final String FORMATO_INVALIDO = "El elemento no tiene un formato JSON válido";
+  private static final int MAXIMO_ERRORES_INFORMADOS = 100;
+
+  private final ProductoRepository productoRepository;
+  private final ProductoMapper mapper;
+  private final Validator validator;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int tamanioLote;
+  private final int maximoItems;
+
+  public ProductoLoteService(ProductoRepository productoRepository, ProductoMapper mapper,
+      Validator validator, EntityManager entityManager, PlatformTransactionManager transactionManager,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${productos.lote.tamanio:500}") int tamanioLote,
+      @Value("${productos.lote.maximo-items:50000}") int maximoItems) {
+    this.productoRepository = productoRepository;
+    this.mapper = mapper;
+    this.validator = validator;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.eventPublisher = eventPublisher;
+    this.tamanioLote = tamanioLote;
+    this.maximoItems = maximoItems;
+  }
+
+  public ResultadoLoteDTO crearProductos(List<ProductoDTO> dtos) {
+    return procesar(dtos, this::crearLote);
+  }
+
+  public ResultadoLoteDTO actualizarProductos(List<ActualizarProductoLoteDTO> dtos) {
+    return procesar(dtos, lote -> actualizarLote(lote, ActualizarProductoLoteDTO::getId,
+        (dto, producto) -> mapper.actualizarProducto(dto, producto), ProductoModificadoEvent::actualizado));
+  }
+
+  public ResultadoLoteDTO actualizarStocks(List<ActualizarStockLoteDTO> dtos) {
+    return procesar(dtos, lote -> actualizarLote(lote, ActualizarStockLoteDTO::getId,
+        (dto, producto) -> producto.setStock(dto.getStock()), ProductoModificadoEvent::stockActualizado));
+  }
+
+  public ResultadoImportacionDTO importar(Iterator<FilaImportacion> filas) {
+    ResumenImportacion resumen = new ResumenImportacion();
+    List<ItemLote<FilaImportacion>> lote = new ArrayList<>(tamanioLote);
+
+    int indice = 0;
+    while (filas.hasNext()) {
+      FilaImportacion fila = filas.next();
+      List<String> errores = fila.error() != null ? List.of(fila.error()) : validar(fila.producto());
+      if (!errores.isEmpty()) {
+        resumen.registrar(error(indice++, fila.id(), errores));
+        continue;
+      }
+
+      lote.add(new ItemLote<>(indice++, fila));
+      if (lote.size() == tamanioLote) {
+        guardarLote(lote, this::importarLote, resumen::registrar);
+        lote.clear();
+      }
+    }
+    if (!lote.isEmpty()) {
+      guardarLote(lote, this::importarLote, resumen::registrar);
+    }
+
+    return resumen.resultado(indice);
+  }
+
+  private <T> ResultadoLoteDTO procesar(List<T> dtos, Function<List<ItemLote<T>>, List<ResultadoItemLoteDTO>> persistirLote) {
+    if (dtos == null || dtos.isEmpty()) {
+      throw new ParametroInvalidoException("La solicitud no contiene elementos");
+    }
+    if (dtos.size() > maximoItems) {
+      throw new ParametroInvalidoException("La solicitud supera el máximo de " + maximoItems + " elementos");
+    }
+
+    ResultadoItemLoteDTO[] resultados = new ResultadoItemLoteDTO[dtos.size()];
+    List<ItemLote<T>> lote = new ArrayList<>(tamanioLote);
+
+    for (int indice = 0; indice < dtos.size(); indice++) {
+      T dto = dtos.get(indice);
+      List<String> errores = validar(dto);
+      if (!errores.isEmpty()) {
+        resultados[indice] = error(indice, null, errores);
+        continue;
+      }
+
+      lote.add(new ItemLote<>(indice, dto));
+      if (lote.size() == tamanioLote) {
+        guardarLote(lote, persistirLote, resultado -> resultados[resultado.getIndice()] = resultado);
+        lote.clear();
+      }
+    }
+    if (!lote.isEmpty()) {
+      guardarLote(lote, persistirLote, resultado -> resultados[resultado.getIndice()] = resultado);
+    }
+
+    List<ResultadoItemLoteDTO> items = List.of(resultados);
+    int fallidos = (int) items.stream().filter(item -> item.getEstado() == EstadoItemLote.ERROR).count();
+    return ResultadoLoteDTO.builder()
+        .total(items.size())
+        .exitosos(items.size() - fallidos)
+        .fallidos(fallidos)
+        .items(items)
+        .build();
+  }
+
+  private <T> void guardarLote(List<ItemLote<T>> lote,
+      Function<List<ItemLote<T>>, List<ResultadoItemLoteDTO>> persistirLote, Consumer<ResultadoItemLoteDTO> registrar) {
+    try {
+      List<ResultadoItemLoteDTO> guardados = transactionTemplate.execute(estado -> {
+        List<ResultadoItemLoteDTO> parciales = persistirLote.apply(lote);
+        entityManager.flush();
+        entityManager.clear();
+        return parciales;
+      });
+      guardados.forEach(registrar);
+    } catch (RuntimeException e) {
+      if (lote.size() > 1) {
+        lote.forEach(item -> guardarLote(List.of(item), persistirLote, registrar));
+        return;
+      }
+      String mensaje = "No se pudo guardar el elemento: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+      lote.forEach(item -> registrar.accept(error(item.indice(), null, List.of(mensaje))));
+    }
+  }
+
+  private List<ResultadoItemLoteDTO> crearLote(List<ItemLote<ProductoDTO>> lote) {
+    List<Producto> productos = lote.stream().map(item -> mapper.toProducto(item.dto())).toList();
+    productoRepository.saveAll(productos);
+
+    List<ResultadoItemLoteDTO> resultados = new ArrayList<>(lote.size());
+    for (int i = 0; i < lote.size(); i++) {
+      Producto producto = productos.get(i);
+      eventPublisher.publishEvent(ProductoModificadoEvent.creado(mapper.toProductoResponseDTO(producto)));
+      resultados.add(exito(lote.get(i).indice(), producto.getId(), EstadoItemLote.CREADO));
+    }
+    return resultados;
+  }
+
+  private List<ResultadoItemLoteDTO> importarLote(List<ItemLote<FilaImportacion>> lote) {
+    List<Long> ids = lote.stream().map(item -> item.dto().id()).filter(Objects::nonNull).distinct().toList();
+    Map<Long, Producto> existentes = productoRepository.findAllById(ids).stream()
+        .collect(Collectors.toMap(Producto::getId, Function.identity()));
+
+    List<ResultadoItemLoteDTO> resultados = new ArrayList<>(lote.size());
+    List<ItemLote<Producto>> nuevos = new ArrayList<>();
+    for (ItemLote<FilaImportacion> item : lote) {
+      Producto producto = item.dto().id() != null ? existentes.get(item.dto().id()) : null;
+      if (producto == null) {
+        nuevos.add(new ItemLote<>(item.indice(), mapper.toProducto(item.dto().producto())));
+        continue;
+      }
+
+      ProductoResponseDTO anterior = mapper.toProductoResponseDTO(producto);
+      mapper.actualizarProducto(item.dto().producto(), producto);
+      eventPublisher.publishEvent(ProductoModificadoEvent.actualizado(anterior, mapper.toProductoResponseDTO(producto)));
+      resultados.add(exito(item.indice(), producto.getId(), EstadoItemLote.ACTUALIZADO));
+    }
+
+    productoRepository.saveAll(nuevos.stream().map(ItemLote::dto).toList());
+    for (ItemLote<Producto> nuevo : nuevos) {
+      eventPublisher.publishEvent(ProductoModificadoEvent.creado(mapper.toProductoResponseDTO(nuevo.dto())));
+      resultados.add(exito(nuevo.indice(), nuevo.dto().getId(), EstadoItemLote.CREADO));
+    }
+    return resultados;
+  }
+
+  private <T> List<ResultadoItemLoteDTO> actualizarLote(List<ItemLote<T>> lote, Function<T, Long> obtenerId,
+      BiConsumer<T, Producto> aplicarCambios,
+      BiFunction<ProductoResponseDTO, ProductoResponseDTO, ProductoModificadoEvent> crearEvento) {
+    List<Long> ids = lote.stream().map(item -> obtenerId.apply(item.dto())).distinct().toList();
+    Map<Long, Producto> existentes = productoRepository.findAllById(ids).stream()
+        .collect(Collectors.toMap(Producto::getId, Function.identity()));
+
+    List<ResultadoItemLoteDTO> resultados = new ArrayList<>(lote.size());
+    for (ItemLote<T> item : lote) {
+      Long id = obtenerId.apply(item.dto());
+      Producto producto = existentes.get(id);
+      if (producto == null) {
+        resultados.add(error(item.indice(), id, List.of("No existe el producto con el id: " + id)));
+        continue;
+      }
+
+      ProductoResponseDTO anterior = mapper.toProductoResponseDTO(producto);
+      aplicarCambios.accept(item.dto(), producto);
+      eventPublisher.publishEvent(crearEvento.apply(anterior, mapper.toProductoResponseDTO(producto)));
+      resultados.add(exito(item.indice(), id, EstadoItemLote.ACTUALIZADO));
+    }
+    return resultados;
+  }
+
+  private <T> List<String> validar(T dto) {
+    if (dto == null) {
+      return List.of(FORMATO_INVALIDO);
+    }
+
+    return validator.validate(dto).stream()
+        .map(this::describir)
+        .sorted()
+        .toList();
+  }
+
+  private String describir(ConstraintViolation<?> violacion) {
+    return violacion.getPropertyPath() + ": " + violacion.getMessage();
+  }
+
+  private ResultadoItemLoteDTO exito(int indice, Long id, EstadoItemLote estado) {
+    return ResultadoItemLoteDTO.builder()
+        .indice(indice)
+        .id(id)
+        .estado(estado)
+        .build();
+  }
+
+  private ResultadoItemLoteDTO error(int indice, Long id, List<String> errores) {
+    return ResultadoItemLoteDTO.builder()
+        .indice(indice)
+        .id(id)
+        .estado(EstadoItemLote.ERROR)
+        .errores(errores)
+        .build();
+  }
+
+  private record ItemLote<T>(int indice, T dto) {
+  }
+
+  private static final class ResumenImportacion {
+    private long creados;
+    private long actualizados;
+    private long fallidos;
+    private final List<ResultadoItemLoteDTO> errores = new ArrayList<>();
+
+    void registrar(ResultadoItemLoteDTO resultado) {
+      switch (resultado.getEstado()) {
+        case CREADO -> creados++;
+        case ACTUALIZADO -> actualizados++;
+        case ERROR -> {
+          fallidos++;
+          if (errores.size() < MAXIMO_ERRORES_INFORMADOS) {
+            errores.add(resultado);
+          }
+        }
+      }
+    }
+
+    ResultadoImportacionDTO resultado(long total) {
+      return ResultadoImportacionDTO.builder()
+          .total(total)
+          .creados(creados)
+          .actualizados(actualizados)
+          .fallidos(fallidos)
+          .errores(errores)
+          .build();
+    }
+  }
+}
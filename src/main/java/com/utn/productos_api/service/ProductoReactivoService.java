@@ -0,0 +1,176 @@
+package com.utn.productos_api.service;
+
+import com.utn.productos_api.dto.ActualizarStockDTO;
+import com.utn.productos_api.dto.PaginaProductosDTO;
+import com.utn.productos_api.dto.ProductoDTO;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.exceptions.ProductoNoEncontradoException;
+import com.utn.productos_api.mapper.ProductoMapper;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.model.Producto;
+import com.utn.productos_api.repository.reactivo.ProductoReactivoRepository;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ProductoReactivoService {
+
+  private final ProductoReactivoRepository productoRepository;
+  private final R2dbcEntityTemplate entityTemplate;
+  private final ProductoMapper mapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int limitePorDefecto;
+  private final int limiteMaximo;
+  private long proximoId;
+  private long ultimoIdReservado = -1;
+
+  public ProductoReactivoService(ProductoReactivoRepository productoRepository, R2dbcEntityTemplate entityTemplate,
+      ProductoMapper mapper, ApplicationEventPublisher eventPublisher,
+      @Value("${productos.paginacion.limite-por-defecto:50}") int limitePorDefecto,
+      @Value("${productos.paginacion.limite-maximo:500}") int limiteMaximo) {
+    this.productoRepository = productoRepository;
+    this.entityTemplate = entityTemplate;
+    this.mapper = mapper;
+    this.eventPublisher = eventPublisher;
+    this.limitePorDefecto = limitePorDefecto;
+    this.limiteMaximo = limiteMaximo;
+  }
+
+  public Mono<ProductoResponseDTO> crearProducto(ProductoDTO dto) {
+    return siguienteId()
+        .map(id -> {
+          Producto producto = mapper.toProducto(dto);
+          producto.setId(id);
+          producto.setVersion(0L);
+          producto.setUltimaModificacion(Instant.now());
+          return producto;
+        })
+        .flatMap(entityTemplate::insert)
+        .map(mapper::toProductoResponseDTO)
+        .doOnNext(creado -> eventPublisher.publishEvent(ProductoModificadoEvent.creado(creado)));
+  }
+
+  public Mono<PaginaProductosDTO> obtenerPagina(String cursor, Integer limite) {
+    int tamanio = CursorPaginacion.resolverLimite(limite, limitePorDefecto, limiteMaximo);
+    Long desdeId = CursorPaginacion.decodificar(cursor);
+
+    return productoRepository.buscarPagina(desdeId, tamanio + 1)
+        .collectList()
+        .map(productos -> {
+          boolean hayMas = productos.size() > tamanio;
+          List<Producto> pagina = hayMas ? productos.subList(0, tamanio) : productos;
+          String siguienteCursor = hayMas ? CursorPaginacion.codificar(pagina.get(pagina.size() - 1).getId()) : null;
+
+          return PaginaProductosDTO.builder()
+              .productos(mapper.toProductoResponseDTOList(pagina))
+              .siguienteCursor(siguienteCursor)
+              .limite(tamanio)
+              .build();
+        });
+  }
+
+  public Flux<ProductoResponseDTO> obtenerTodos() {
+    return productoRepository.findAllByOrderByIdAsc()
+        .map(mapper::toProductoResponseDTO);
+  }
+
+  public Mono<ProductoResponseDTO> obtenerPorId(Long id) {
+    return buscarProducto(id)
+        .map(mapper::toProductoResponseDTO);
+  }
+
+  public Flux<ProductoResponseDTO> obtenerPorCategoria(Categoria categoria) {
+    return productoRepository.findByCategoria(categoria)
+        .map(mapper::toProductoResponseDTO);
+  }
+
+  public Mono<ProductoResponseDTO> actualizarProducto(Long id, ProductoDTO dto) {
+    return buscarProducto(id)
+        .flatMap(producto -> {
+          ProductoResponseDTO anterior = mapper.toProductoResponseDTO(producto);
+          mapper.actualizarProducto(dto, producto);
+
+          return guardar(producto)
+              .map(mapper::toProductoResponseDTO)
+              .doOnNext(actual -> eventPublisher.publishEvent(ProductoModificadoEvent.actualizado(anterior, actual)));
+        });
+  }
+
+  public Mono<ProductoResponseDTO> actualizarStock(Long id, ActualizarStockDTO dto) {
+    return buscarProducto(id)
+        .flatMap(producto -> {
+          ProductoResponseDTO anterior = mapper.toProductoResponseDTO(producto);
+          producto.setStock(dto.getStock());
+
+          return guardar(producto)
+              .map(mapper::toProductoResponseDTO)
+              .doOnNext(actual -> eventPublisher.publishEvent(ProductoModificadoEvent.stockActualizado(anterior, actual)));
+        });
+  }
+
+  public Mono<Void> eliminarProducto(Long id) {
+    return productoRepository.findById(id)
+        .flatMap(producto -> productoRepository.delete(producto)
+            .doOnSuccess(vacio -> eventPublisher.publishEvent(
+                ProductoModificadoEvent.eliminado(mapper.toProductoResponseDTO(producto)))));
+  }
+
+  private Mono<Producto> guardar(Producto producto) {
+    Long versionLeida = producto.getVersion();
+    producto.setVersion(versionLeida == null ? 0L : versionLeida + 1);
+    producto.setUltimaModificacion(Instant.now());
+
+    Criteria mismaVersion = versionLeida == null
+        ? Criteria.where("id").is(producto.getId()).and("version").isNull()
+        : Criteria.where("id").is(producto.getId()).and("version").is(versionLeida);
+    return entityTemplate.update(Producto.class)
+        .matching(Query.query(mismaVersion))
+        .apply(Update.update("nombre", producto.getNombre())
+            .set("descripcion", producto.getDescripcion())
+            .set("precio", producto.getPrecio())
+            .set("stock", producto.getStock())
+            .set("categoria", producto.getCategoria())
+            .set("version", producto.getVersion())
+            .set("ultimaModificacion", producto.getUltimaModificacion()))
+        .flatMap(filas -> filas == 0
+            ? Mono.error(new OptimisticLockingFailureException(
+                "El producto con el id " + producto.getId() + " fue modificado por otra solicitud"))
+            : Mono.just(producto));
+  }
+
+  private Mono<Long> siguienteId() {
+    synchronized (this) {
+      if (proximoId <= ultimoIdReservado) {
+        return Mono.just(proximoId++);
+      }
+    }
+    return productoRepository.siguienteValorSecuencia()
+        .map(valor -> {
+          synchronized (this) {
+            if (proximoId > ultimoIdReservado) {
+              proximoId = Math.max(1, valor - Producto.BLOQUE_IDS + 1);
+              ultimoIdReservado = valor;
+            }
+            return proximoId++;
+          }
+        });
+  }
+
+  private Mono<Producto> buscarProducto(Long id) {
+    return productoRepository.findById(id)
+        .switchIfEmpty(Mono.error(() -> new ProductoNoEncontradoException("No existe el producto con el id: " + id)));
+  }
+}
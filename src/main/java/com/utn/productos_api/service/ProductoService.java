@@ -1,77 +1,331 @@
 package com.utn.productos_api.service;
 
+import com.utn.productos_api.cache.CargasCompartidas;
+import com.utn.productos_api.cache.ProductoCache;
+import com.utn.productos_api.cache.RespuestaSerializada;
+import com.utn.productos_api.cache.RespuestasCategoria;
+import com.utn.productos_api.cache.VersionesCatalogo;
+import com.utn.productos_api.catalogo.CatalogoColumnar;
+import com.utn.productos_api.catalogo.CatalogoEnMemoria;
 import com.utn.productos_api.dto.ActualizarStockDTO;
+import com.utn.productos_api.dto.FiltroProductosDTO;
+import com.utn.productos_api.dto.PaginaProductosDTO;
 import com.utn.productos_api.dto.ProductoDTO;
 import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.dto.ProductosPorIdDTO;
+import com.utn.productos_api.dto.VersionProducto;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.exceptions.ParametroInvalidoException;
 import com.utn.productos_api.exceptions.ProductoNoEncontradoException;
+import com.utn.productos_api.exceptions.StockInsuficienteException;
 import com.utn.productos_api.mapper.ProductoMapper;
 import com.utn.productos_api.model.Categoria;
 import com.utn.productos_api.model.Producto;
 import com.utn.productos_api.repository.ProductoRepository;
+import com.utn.productos_api.search.IndiceBusquedaProductos;
+import com.utn.productos_api.search.ResultadoBusqueda;
+import com.utn.productos_api.stock.StockLedger;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed(value = "productos.servicio", histogram = true)
 public class ProductoService {
 
   private final ProductoRepository productoRepository;
   private final ProductoMapper mapper;
+  private final EntityManager entityManager;
+  private final ProductoCache productoCache;
+  private final ApplicationEventPublisher eventPublisher;
+  private final StockLedger stockLedger;
+  private final IndiceBusquedaProductos indiceBusqueda;
+  private final VersionesCatalogo versionesCatalogo;
+  private final RespuestasCategoria respuestasCategoria;
+  private final CatalogoEnMemoria catalogoEnMemoria;
+  private final CargasCompartidas cargasCompartidas;
+  private final int limitePorDefecto;
+  private final int limiteMaximo;
+  private final int maximoIdsPorConsulta;
 
-  public ProductoService(ProductoRepository productoRepository, ProductoMapper mapper) {
+  public ProductoService(ProductoRepository productoRepository, ProductoMapper mapper,
+      EntityManager entityManager, ProductoCache productoCache, ApplicationEventPublisher eventPublisher,
+      StockLedger stockLedger, IndiceBusquedaProductos indiceBusqueda, VersionesCatalogo versionesCatalogo,
+      RespuestasCategoria respuestasCategoria, CatalogoEnMemoria catalogoEnMemoria,
+      CargasCompartidas cargasCompartidas,
+      @Value("${productos.paginacion.limite-por-defecto:50}") int limitePorDefecto,
+      @Value("${productos.paginacion.limite-maximo:500}") int limiteMaximo,
+      @Value("${productos.multiple.maximo-ids:200}") int maximoIdsPorConsulta) {
     this.productoRepository = productoRepository;
     this.mapper = mapper;
+    this.entityManager = entityManager;
+    this.productoCache = productoCache;
+    this.eventPublisher = eventPublisher;
+    this.stockLedger = stockLedger;
+    this.indiceBusqueda = indiceBusqueda;
+    this.versionesCatalogo = versionesCatalogo;
+    this.respuestasCategoria = respuestasCategoria;
+    this.catalogoEnMemoria = catalogoEnMemoria;
+    this.cargasCompartidas = cargasCompartidas;
+    this.limitePorDefecto = limitePorDefecto;
+    this.limiteMaximo = limiteMaximo;
+    this.maximoIdsPorConsulta = maximoIdsPorConsulta;
   }
 
+  @Transactional
   public ProductoResponseDTO crearProducto(ProductoDTO dto) {
     Producto producto = mapper.toProducto(dto);
-    return mapper.toProductoResponseDTO(productoRepository.save(producto));
+    ProductoResponseDTO creado = mapper.toProductoResponseDTO(productoRepository.save(producto));
+
+    eventPublisher.publishEvent(ProductoModificadoEvent.creado(creado));
+    return creado;
   }
 
-  public List<ProductoResponseDTO> obtenerTodos() {
-    List<Producto> productos = productoRepository.findAll();
-    return mapper.toProductoResponseDTOList(productos);
+  public PaginaProductosDTO obtenerPagina(String cursor, Integer limite) {
+    int tamanio = CursorPaginacion.resolverLimite(limite, limitePorDefecto, limiteMaximo);
+    Long desdeId = CursorPaginacion.decodificar(cursor);
+
+    List<ProductoResponseDTO> productos = catalogoEnMemoria.snapshot()
+        .flatMap(catalogo -> paginaVigente(catalogo, desdeId, tamanio + 1))
+        .orElseGet(() -> mapper.toProductoResponseDTOList(
+            productoRepository.findByIdGreaterThanOrderByIdAsc(desdeId, Limit.of(tamanio + 1))));
+    boolean hayMas = productos.size() > tamanio;
+    List<ProductoResponseDTO> pagina = hayMas ? productos.subList(0, tamanio) : productos;
+    String siguienteCursor = hayMas ? CursorPaginacion.codificar(pagina.get(pagina.size() - 1).getId()) : null;
+
+    return PaginaProductosDTO.builder()
+        .productos(stockLedger.aplicarStock(pagina))
+        .siguienteCursor(siguienteCursor)
+        .limite(tamanio)
+        .build();
+  }
+
+  @Transactional(readOnly = true)
+  public void recorrerTodos(Consumer<ProductoResponseDTO> consumidor) {
+    try (Stream<Producto> productos = productoRepository.streamAllOrderById()) {
+      productos.forEach(producto -> {
+        consumidor.accept(stockLedger.aplicarStock(mapper.toProductoResponseDTO(producto)));
+        entityManager.detach(producto);
+      });
+    }
   }
 
   public ProductoResponseDTO obtenerPorId(Long id) {
-    Optional<Producto> producto = productoRepository.findById(id);
-    if (producto.isEmpty()) {
-      throw new ProductoNoEncontradoException("No existe el producto con el id: " + id);
+    Optional<CatalogoColumnar> catalogo = catalogoEnMemoria.snapshot()
+        .filter(snapshot -> catalogoEnMemoria.vigente(snapshot, id));
+    if (catalogo.isPresent()) {
+      return stockLedger.aplicarStock(catalogo.get().obtenerPorId(id)
+          .orElseThrow(() -> new ProductoNoEncontradoException("No existe el producto con el id: " + id)));
     }
+    return stockLedger.aplicarStock(productoCache.buscarPorId(id)
+        .orElseGet(() -> cargasCompartidas.obtener(CargasCompartidas.claveProducto(id), () ->
+            productoCache.obtenerPorId(id, () -> mapper.toProductoResponseDTO(buscarProducto(id))))));
+  }
+
+  public ProductosPorIdDTO obtenerVarios(List<Long> ids) {
+    if (ids.size() > maximoIdsPorConsulta) {
+      throw new ParametroInvalidoException(
+          "Se pueden consultar como máximo " + maximoIdsPorConsulta + " productos por solicitud");
+    }
+    if (ids.stream().anyMatch(Objects::isNull)) {
+      throw new ParametroInvalidoException("La lista de IDs no puede contener valores nulos");
+    }
+
+    List<Long> pedidos = ids.stream().distinct().toList();
+    Map<Long, ProductoResponseDTO> encontrados = new HashMap<>();
+    List<Long> sinSnapshot = pedidos;
+    Optional<CatalogoColumnar> catalogo = catalogoEnMemoria.snapshot();
+    if (catalogo.isPresent()) {
+      Map<Boolean, List<Long>> porVigencia = pedidos.stream()
+          .collect(Collectors.partitioningBy(id -> catalogoEnMemoria.vigente(catalogo.get(), id)));
+      porVigencia.get(true)
+          .forEach(id -> catalogo.get().obtenerPorId(id).ifPresent(producto -> encontrados.put(id, producto)));
+      sinSnapshot = porVigencia.get(false);
+    }
+    if (!sinSnapshot.isEmpty()) {
+      encontrados.putAll(productoCache.obtenerVarios(sinSnapshot, faltantes -> productoRepository.findByIdIn(faltantes)
+          .stream()
+          .map(mapper::toProductoResponseDTO)
+          .collect(Collectors.toMap(ProductoResponseDTO::getId, Function.identity()))));
+    }
+
+    return ProductosPorIdDTO.builder()
+        .productos(stockLedger.aplicarStock(pedidos.stream().map(encontrados::get).filter(Objects::nonNull).toList()))
+        .faltantes(pedidos.stream().filter(id -> !encontrados.containsKey(id)).toList())
+        .build();
+  }
+
+  public VersionProducto obtenerVersion(Long id) {
+    VersionProducto version = productoRepository.findVersionById(id)
+        .orElseThrow(() -> new ProductoNoEncontradoException("No existe el producto con el id: " + id));
+    return new VersionProducto(version.version(), stockLedger.stockActual(id, version.stock()),
+        version.ultimaModificacion());
+  }
+
+  public String versionCatalogo() {
+    return versionesCatalogo.etagCatalogo();
+  }
 
-    return mapper.toProductoResponseDTO(producto.get());
+  public String versionCategoria(Categoria categoria) {
+    return versionesCatalogo.etagCategoria(categoria);
   }
 
   public List<ProductoResponseDTO> obtenerPorCategoria(Categoria categoria) {
-    List<Producto> productos = productoRepository.findByCategoria(categoria);
-    return mapper.toProductoResponseDTOList(productos);
+    Optional<CatalogoColumnar> catalogo = catalogoEnMemoria.snapshot()
+        .filter(snapshot -> catalogoEnMemoria.vigente(snapshot, categoria));
+    if (catalogo.isPresent()) {
+      return stockLedger.aplicarStock(catalogo.get().obtenerPorCategoria(categoria));
+    }
+    return stockLedger.aplicarStock(productoCache.buscarPorCategoria(categoria)
+        .orElseGet(() -> cargasCompartidas.obtener(CargasCompartidas.claveCategoria(categoria), () ->
+            productoCache.obtenerPorCategoria(categoria,
+                () -> mapper.toProductoResponseDTOList(productoRepository.findByCategoria(categoria))))));
   }
 
-  public ProductoResponseDTO actualizarProducto(Long id, ProductoDTO dtoProductoActualizado) {
-    Optional<Producto> producto = productoRepository.findById(id);
-    if (producto.isEmpty()) {
-      throw new ProductoNoEncontradoException("No existe el producto con el id: " + id);
+  public RespuestaSerializada obtenerPorCategoriaSerializada(Categoria categoria, String version) {
+    return respuestasCategoria.obtener(categoria, version, () -> obtenerPorCategoria(categoria));
+  }
+
+  @Transactional(readOnly = true)
+  public List<ProductoResponseDTO> filtrar(FiltroProductosDTO filtro) {
+    int tamanio = CursorPaginacion.resolverLimite(filtro.getLimite(), limitePorDefecto, limiteMaximo);
+    if (filtro.getPrecioMinimo() != null && filtro.getPrecioMaximo() != null
+        && filtro.getPrecioMinimo() > filtro.getPrecioMaximo()) {
+      throw new ParametroInvalidoException("El precio mínimo no puede ser mayor al precio máximo");
+    }
+
+    return stockLedger.aplicarStock(productoRepository.filtrar(filtro, tamanio));
+  }
+
+  @Transactional(readOnly = true)
+  public List<ProductoResponseDTO> buscar(String consulta, Integer limite) {
+    int tamanio = CursorPaginacion.resolverLimite(limite, limitePorDefecto, limiteMaximo);
+    if (consulta == null || consulta.isBlank()) {
+      throw new ParametroInvalidoException("La consulta de búsqueda no puede estar vacía");
+    }
+    if (!indiceBusqueda.isDisponible()) {
+      return stockLedger.aplicarStock(productoRepository.buscarPorTexto(consulta, tamanio));
     }
 
-    Producto productoActualizado = mapper.toProducto(dtoProductoActualizado);
-    productoActualizado.setId(id);
+    List<Long> ids = indiceBusqueda.buscar(consulta, tamanio).stream()
+        .map(ResultadoBusqueda::id)
+        .toList();
+    Map<Long, Producto> productos = productoRepository.findAllById(ids).stream()
+        .collect(Collectors.toMap(Producto::getId, Function.identity()));
 
-    return mapper.toProductoResponseDTO(productoRepository.save(productoActualizado));
+    return stockLedger.aplicarStock(ids.stream()
+        .map(productos::get)
+        .filter(Objects::nonNull)
+        .map(mapper::toProductoResponseDTO)
+        .toList());
   }
 
+  @Transactional
+  public ProductoResponseDTO actualizarProducto(Long id, ProductoDTO dtoProductoActualizado) {
+    Producto producto = buscarProducto(id);
+    ProductoResponseDTO anterior = mapper.toProductoResponseDTO(producto);
+
+    mapper.actualizarProducto(dtoProductoActualizado, producto);
+    ProductoResponseDTO actualizado = mapper.toProductoResponseDTO(productoRepository.save(producto));
+
+    eventPublisher.publishEvent(ProductoModificadoEvent.actualizado(anterior, actualizado));
+    return actualizado;
+  }
+
+  @Transactional
   public ProductoResponseDTO actualizarStock(Long id, ActualizarStockDTO stock) {
+    if (stockLedger.isHabilitado()) {
+      stockLedger.establecer(id, stock.getStock());
+      return obtenerPorId(id);
+    }
+
+    Producto producto = buscarProducto(id);
+    ProductoResponseDTO anterior = mapper.toProductoResponseDTO(producto);
+
+    producto.setStock(stock.getStock());
+    ProductoResponseDTO actualizado = mapper.toProductoResponseDTO(productoRepository.save(producto));
+
+    eventPublisher.publishEvent(ProductoModificadoEvent.stockActualizado(anterior, actualizado));
+    return actualizado;
+  }
+
+  @Transactional
+  public ProductoResponseDTO reservarStock(Long id, int cantidad) {
+    if (stockLedger.isHabilitado()) {
+      stockLedger.reservar(id, cantidad);
+      return obtenerPorId(id);
+    }
+
+    if (productoRepository.descontarStock(id, cantidad, Instant.now()) == 0) {
+      buscarProducto(id);
+      throw new StockInsuficienteException(
+          "Stock insuficiente para el producto con el id: " + id + ". Cantidad solicitada: " + cantidad);
+    }
+
+    return publicarMovimientoStock(id, cantidad);
+  }
+
+  @Transactional
+  public ProductoResponseDTO liberarStock(Long id, int cantidad) {
+    if (stockLedger.isHabilitado()) {
+      stockLedger.liberar(id, cantidad);
+      return obtenerPorId(id);
+    }
+
+    if (productoRepository.incrementarStock(id, cantidad, Instant.now()) == 0) {
+      buscarProducto(id);
+    }
+
+    return publicarMovimientoStock(id, -cantidad);
+  }
+
+  @Transactional
+  public void eliminarProducto(Long id) {
     Optional<Producto> producto = productoRepository.findById(id);
     if (producto.isEmpty()) {
-      throw new ProductoNoEncontradoException("No existe el producto con el id: " + id);
+      return;
     }
 
-    Producto productoActualizado = producto.get();
-    productoActualizado.setStock(stock.getStock());
+    productoRepository.delete(producto.get());
+    eventPublisher.publishEvent(ProductoModificadoEvent.eliminado(mapper.toProductoResponseDTO(producto.get())));
+  }
+
+  private ProductoResponseDTO publicarMovimientoStock(Long id, int cantidadDescontada) {
+    ProductoResponseDTO actualizado = mapper.toProductoResponseDTO(buscarProducto(id));
+    ProductoResponseDTO anterior = actualizado.toBuilder()
+        .stock(actualizado.getStock() + cantidadDescontada)
+        .build();
+
+    eventPublisher.publishEvent(ProductoModificadoEvent.stockActualizado(anterior, actualizado));
+    return actualizado;
+  }
 
-    return mapper.toProductoResponseDTO(productoRepository.save(productoActualizado));
+  private Optional<List<ProductoResponseDTO>> paginaVigente(CatalogoColumnar catalogo, long desdeId, int limite) {
+    List<ProductoResponseDTO> productos = catalogo.obtenerDesde(desdeId, limite);
+    long hastaId = productos.size() < limite ? Long.MAX_VALUE : productos.get(productos.size() - 1).getId();
+    return catalogoEnMemoria.vigente(catalogo, desdeId, hastaId) ? Optional.of(productos) : Optional.empty();
   }
 
-  public void  eliminarProducto(Long id) {
-    productoRepository.deleteById(id);
+  private Producto buscarProducto(Long id) {
+    Optional<Producto> producto = productoRepository.findById(id);
+    if (producto.isEmpty()) {
+      throw new ProductoNoEncontradoException("No existe el producto con el id: " + id);
+    }
+
+    return producto.get();
   }
 }
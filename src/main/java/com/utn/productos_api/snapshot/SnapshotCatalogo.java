@@ -0,0 +1,102 @@
+package com.utn.productos_api.snapshot;
+
+import com.utn.productos_api.dto.ResultadoSnapshotDTO;
+import com.utn.productos_api.events.CatalogoImportadoEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class SnapshotCatalogo implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(SnapshotCatalogo.class);
+  private static final String COLUMNAS =
+      "id, nombre, descripcion, precio, stock, categoria, version, ultima_modificacion";
+  private static final int INCREMENTO_SECUENCIA = 50;
+
+  private final Path archivo;
+  private final boolean importarAlIniciar;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public SnapshotCatalogo(
+      @Value("${productos.snapshot.archivo:./data/snapshot/productos.csv}") Path archivo,
+      @Value("${productos.snapshot.importar-al-iniciar:false}") boolean importarAlIniciar,
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+      ApplicationEventPublisher eventPublisher) {
+    this.archivo = archivo;
+    this.importarAlIniciar = importarAlIniciar;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!importarAlIniciar || !Files.exists(archivo)) {
+      return;
+    }
+
+    Long existentes = jdbcTemplate.queryForObject("select count(*) from producto", Long.class);
+    if (existentes != null && existentes > 0) {
+      log.info("Snapshot {} omitido: la base ya contiene {} productos", archivo, existentes);
+      return;
+    }
+
+    ResultadoSnapshotDTO resultado = importar();
+    log.info("Snapshot {} importado al iniciar: {} productos en {} ms",
+        resultado.getArchivo(), resultado.getProductos(), resultado.getDuracionMs());
+  }
+
+  public ResultadoSnapshotDTO exportar() {
+    long inicio = System.nanoTime();
+    try {
+      Files.createDirectories(archivo.toAbsolutePath().getParent());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    Long productos = jdbcTemplate.queryForObject(
+        "call csvwrite(?, ?, 'charset=UTF-8')", Long.class,
+        archivo.toString(), "select " + COLUMNAS + " from producto order by id");
+
+    return resultado(productos, inicio);
+  }
+
+  public ResultadoSnapshotDTO importar() {
+    long inicio = System.nanoTime();
+    String origen = "'" + archivo.toString().replace("'", "''") + "'";
+
+    Long productos = transactionTemplate.execute(estado -> {
+      long insertados = jdbcTemplate.update("insert into producto (" + COLUMNAS + ") select " + COLUMNAS
+          + " from csvread(" + origen + ", null, 'charset=UTF-8')");
+      Long maximo = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from producto", Long.class);
+      jdbcTemplate.execute("alter sequence producto_seq restart with " + (maximo + INCREMENTO_SECUENCIA));
+      jdbcTemplate.execute("analyze table producto");
+      return insertados;
+    });
+
+    eventPublisher.publishEvent(new CatalogoImportadoEvent(productos));
+    return resultado(productos, inicio);
+  }
+
+  private ResultadoSnapshotDTO resultado(Long productos, long inicio) {
+    return ResultadoSnapshotDTO.builder()
+        .archivo(archivo.toString())
+        .productos(productos)
+        .duracionMs((System.nanoTime() - inicio) / 1_000_000)
+        .build();
+  }
+}
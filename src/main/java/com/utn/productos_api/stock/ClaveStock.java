@@ -0,0 +1,4 @@
+package com.utn.productos_api.stock;
+
+record ClaveStock(Long id, long version) {
+}
@@ -0,0 +1,115 @@
+package com.utn.productos_api.stock;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class DiarioStock {
+
+  private static final String PREFIJO = "segmento-";
+  private static final String EXTENSION = ".log";
+
+  private final Path directorio;
+  private BufferedWriter escritor;
+  private long segmentoActual;
+
+  DiarioStock(Path directorio) {
+    this.directorio = directorio;
+  }
+
+  synchronized void abrir(long segmento) {
+    try {
+      Files.createDirectories(directorio);
+      segmentoActual = segmento;
+      escritor = Files.newBufferedWriter(ruta(segmento), StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  synchronized void registrar(Long id, long version, long delta) {
+    try {
+      escritor.write(id + "," + version + "," + delta);
+      escritor.newLine();
+      escritor.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  synchronized long rotar() {
+    long cerrado = segmentoActual;
+    cerrar();
+    abrir(cerrado + 1);
+    return cerrado;
+  }
+
+  synchronized void cerrar() {
+    try {
+      if (escritor != null) {
+        escritor.close();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  List<Long> segmentos() {
+    if (!Files.isDirectory(directorio)) {
+      return List.of();
+    }
+    try (Stream<Path> archivos = Files.list(directorio)) {
+      return archivos
+          .map(archivo -> archivo.getFileName().toString())
+          .filter(nombre -> nombre.startsWith(PREFIJO) && nombre.endsWith(EXTENSION))
+          .map(nombre -> Long.parseLong(nombre.substring(PREFIJO.length(), nombre.length() - EXTENSION.length())))
+          .sorted()
+          .toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  Map<ClaveStock, Long> leer(long segmento) {
+    Map<ClaveStock, Long> deltas = new HashMap<>();
+    try (Stream<String> lineas = Files.lines(ruta(segmento), StandardCharsets.UTF_8)) {
+      lineas.filter(linea -> !linea.isBlank()).forEach(linea -> {
+        String[] partes = linea.split(",");
+        try {
+          deltas.merge(new ClaveStock(Long.parseLong(partes[0]), Long.parseLong(partes[1])),
+              Long.parseLong(partes[2]), Long::sum);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+          // linea incompleta por una caida durante la escritura: el movimiento nunca fue confirmado
+        }
+      });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return deltas;
+  }
+
+  void descartarHasta(long segmento) {
+    for (Long existente : segmentos()) {
+      if (existente <= segmento && existente != segmentoActual) {
+        try {
+          Files.deleteIfExists(ruta(existente));
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    }
+  }
+
+  private Path ruta(long segmento) {
+    return directorio.resolve(PREFIJO + segmento + EXTENSION);
+  }
+}
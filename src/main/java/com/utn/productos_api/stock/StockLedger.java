@@ -0,0 +1,382 @@
+package com.utn.productos_api.stock;
+
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.dto.VersionProducto;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.exceptions.ProductoNoEncontradoException;
+import com.utn.productos_api.exceptions.StockInsuficienteException;
+import com.utn.productos_api.mapper.ProductoMapper;
+import com.utn.productos_api.repository.ProductoRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class StockLedger implements MeterBinder, SmartInitializingSingleton {
+
+  private static final Logger log = LoggerFactory.getLogger(StockLedger.class);
+  private static final String SQL_APLICAR_DELTA =
+      "update producto set stock = stock + ?, ultima_modificacion = ? where id = ? and version = ?";
+  private static final String SQL_SEGMENTO_APLICADO = "select segmento from segmento_stock_aplicado where id = 1";
+  private static final String SQL_ACTUALIZAR_SEGMENTO = "update segmento_stock_aplicado set segmento = ? where id = 1";
+  private static final String SQL_INSERTAR_SEGMENTO = "insert into segmento_stock_aplicado (id, segmento) values (1, ?)";
+
+  private final boolean habilitado;
+  private final ProductoRepository productoRepository;
+  private final ProductoMapper mapper;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final DiarioStock diario;
+
+  private final Map<Long, StockEnMemoria> stocks = new ConcurrentHashMap<>();
+  private final ReentrantReadWriteLock epoca = new ReentrantReadWriteLock();
+  private volatile Map<Long, Pendiente> pendientes = new ConcurrentHashMap<>();
+
+  private final AtomicLong ultimoFlush = new AtomicLong(System.currentTimeMillis());
+  private final AtomicLong pendienteDesde = new AtomicLong();
+  private final AtomicLong productosEnUltimoFlush = new AtomicLong();
+  private final AtomicLong flushesFallidos = new AtomicLong();
+  private final AtomicLong cambiosEnMemoria = new AtomicLong();
+
+  public StockLedger(
+      @Value("${productos.stock.ledger.enabled:false}") boolean habilitado,
+      @Value("${productos.stock.ledger.directorio:./data/stock-ledger}") Path directorio,
+      ProductoRepository productoRepository, ProductoMapper mapper, JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher) {
+    this.habilitado = habilitado;
+    this.productoRepository = productoRepository;
+    this.mapper = mapper;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.eventPublisher = eventPublisher;
+    this.diario = new DiarioStock(directorio);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    reproducirDiario();
+  }
+
+  void reproducirDiario() {
+    if (!habilitado) {
+      return;
+    }
+
+    List<Long> segmentos = diario.segmentos();
+    long aplicado = segmentoAplicado();
+    long ultimo = Math.max(aplicado, segmentos.isEmpty() ? 0 : segmentos.get(segmentos.size() - 1));
+
+    Map<ClaveStock, Long> deltas = new HashMap<>();
+    for (Long segmento : segmentos) {
+      if (segmento > aplicado) {
+        diario.leer(segmento).forEach((clave, delta) -> deltas.merge(clave, delta, Long::sum));
+      }
+    }
+    if (ultimo > aplicado) {
+      int productos = aplicar(deltas, ultimo);
+      log.info("Diario de stock reproducido hasta el segmento {}: {} productos actualizados", ultimo, productos);
+    }
+    diario.abrir(ultimo + 1);
+    diario.descartarHasta(ultimo);
+  }
+
+  public boolean isHabilitado() {
+    return habilitado;
+  }
+
+  public int reservar(Long id, int cantidad) {
+    epoca.readLock().lock();
+    try {
+      StockEnMemoria enMemoria = stockDe(id);
+      int actual;
+      do {
+        actual = enMemoria.stock().get();
+        if (actual < cantidad) {
+          throw new StockInsuficienteException(
+              "Stock insuficiente para el producto con el id: " + id + ". Cantidad solicitada: " + cantidad);
+        }
+      } while (!enMemoria.stock().compareAndSet(actual, actual - cantidad));
+
+      registrarDelta(id, enMemoria.version(), -cantidad);
+      return actual - cantidad;
+    } finally {
+      epoca.readLock().unlock();
+    }
+  }
+
+  public int liberar(Long id, int cantidad) {
+    epoca.readLock().lock();
+    try {
+      StockEnMemoria enMemoria = stockDe(id);
+      int actual = enMemoria.stock().addAndGet(cantidad);
+      registrarDelta(id, enMemoria.version(), cantidad);
+      return actual;
+    } finally {
+      epoca.readLock().unlock();
+    }
+  }
+
+  public int establecer(Long id, int stock) {
+    epoca.readLock().lock();
+    try {
+      StockEnMemoria enMemoria = stockDe(id);
+      int anterior = enMemoria.stock().getAndSet(stock);
+      registrarDelta(id, enMemoria.version(), (long) stock - anterior);
+      return stock;
+    } finally {
+      epoca.readLock().unlock();
+    }
+  }
+
+  public ProductoResponseDTO aplicarStock(ProductoResponseDTO producto) {
+    if (!habilitado) {
+      return producto;
+    }
+
+    StockEnMemoria enMemoria = stocks.get(producto.getId());
+    if (enMemoria == null) {
+      return producto;
+    }
+    return producto.toBuilder().stock(enMemoria.stock().get()).build();
+  }
+
+  public int stockActual(Long id, int stockPersistido) {
+    if (!habilitado) {
+      return stockPersistido;
+    }
+
+    StockEnMemoria enMemoria = stocks.get(id);
+    return enMemoria == null ? stockPersistido : enMemoria.stock().get();
+  }
+
+  public List<ProductoResponseDTO> aplicarStock(List<ProductoResponseDTO> productos) {
+    if (!habilitado || stocks.isEmpty()) {
+      return productos;
+    }
+    return productos.stream().map(this::aplicarStock).toList();
+  }
+
+  @Scheduled(fixedDelayString = "${productos.stock.ledger.intervalo-flush-ms:1000}")
+  public void flush() {
+    if (!habilitado) {
+      return;
+    }
+
+    Map<Long, Pendiente> drenados;
+    long segmento;
+    epoca.writeLock().lock();
+    try {
+      drenados = pendientes;
+      pendientes = new ConcurrentHashMap<>();
+      segmento = diario.rotar();
+      pendienteDesde.set(0);
+    } finally {
+      epoca.writeLock().unlock();
+    }
+
+    Map<ClaveStock, Long> deltas = new HashMap<>();
+    drenados.forEach((id, pendiente) -> {
+      long neto = pendiente.delta().sum();
+      if (neto != 0) {
+        deltas.put(new ClaveStock(id, pendiente.version()), neto);
+      }
+    });
+
+    if (!deltas.isEmpty()) {
+      try {
+        productosEnUltimoFlush.set(aplicar(deltas, segmento));
+      } catch (RuntimeException e) {
+        flushesFallidos.incrementAndGet();
+        log.warn("No se pudo volcar el stock en memoria a la base de datos, se reintentará", e);
+        epoca.readLock().lock();
+        try {
+          deltas.forEach(this::restituir);
+        } finally {
+          epoca.readLock().unlock();
+        }
+        return;
+      }
+    }
+    ultimoFlush.set(System.currentTimeMillis());
+    diario.descartarHasta(segmento);
+  }
+
+  @PreDestroy
+  void detener() {
+    if (!habilitado) {
+      return;
+    }
+    flush();
+    diario.cerrar();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void descartarProducto(ProductoModificadoEvent evento) {
+    if (!habilitado) {
+      return;
+    }
+
+    if (!stocks.containsKey(evento.id()) && !pendientes.containsKey(evento.id())) {
+      return;
+    }
+
+    Long version = productoRepository.findVersionVigenteById(evento.id()).map(VersionProducto::version).orElse(null);
+    epoca.writeLock().lock();
+    try {
+      stocks.computeIfPresent(evento.id(), (id, enMemoria) -> vigente(enMemoria.version(), version) ? enMemoria : null);
+      pendientes.computeIfPresent(evento.id(), (id, pendiente) -> vigente(pendiente.version(), version) ? pendiente : null);
+    } finally {
+      epoca.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("productos.stock.ledger.pendientes", this, StockLedger::productosConCambiosPendientes)
+        .register(registry);
+    TimeGauge.builder("productos.stock.ledger.antiguedad.pendientes", this, TimeUnit.MILLISECONDS,
+            StockLedger::antiguedadPendientesMs)
+        .register(registry);
+    TimeGauge.builder("productos.stock.ledger.desde.ultimo.flush", this, TimeUnit.MILLISECONDS,
+            StockLedger::milisegundosDesdeUltimoFlush)
+        .register(registry);
+    Gauge.builder("productos.stock.ledger.ultimo.flush.productos", this, StockLedger::productosEnUltimoFlush)
+        .register(registry);
+    FunctionCounter.builder("productos.stock.ledger.flushes.fallidos", this, StockLedger::flushesFallidos)
+        .register(registry);
+  }
+
+  public int productosConCambiosPendientes() {
+    return pendientes.size();
+  }
+
+  public long milisegundosDesdeUltimoFlush() {
+    return System.currentTimeMillis() - ultimoFlush.get();
+  }
+
+  public long antiguedadPendientesMs() {
+    long desde = pendienteDesde.get();
+    return desde == 0 ? 0 : System.currentTimeMillis() - desde;
+  }
+
+  public long productosEnUltimoFlush() {
+    return productosEnUltimoFlush.get();
+  }
+
+  public long flushesFallidos() {
+    return flushesFallidos.get();
+  }
+
+  public long cambiosEnMemoria() {
+    return cambiosEnMemoria.get();
+  }
+
+  private StockEnMemoria stockDe(Long id) {
+    return stocks.computeIfAbsent(id, clave -> productoRepository.findVersionVigenteById(clave)
+        .map(persistido -> new StockEnMemoria(new AtomicInteger(persistido.stock()), persistido.version()))
+        .orElseThrow(() -> new ProductoNoEncontradoException("No existe el producto con el id: " + clave)));
+  }
+
+  private void registrarDelta(Long id, long version, long delta) {
+    if (delta == 0) {
+      return;
+    }
+    cambiosEnMemoria.incrementAndGet();
+    pendientes.computeIfAbsent(id, clave -> new Pendiente(version, new LongAdder())).delta().add(delta);
+    pendienteDesde.compareAndSet(0, System.currentTimeMillis());
+    diario.registrar(id, version, delta);
+  }
+
+  private void restituir(ClaveStock clave, long delta) {
+    StockEnMemoria enMemoria = stocks.get(clave.id());
+    if (enMemoria == null || enMemoria.version() != clave.version()) {
+      return;
+    }
+    pendientes.computeIfAbsent(clave.id(), id -> new Pendiente(clave.version(), new LongAdder())).delta().add(delta);
+    pendienteDesde.compareAndSet(0, System.currentTimeMillis());
+  }
+
+  private boolean vigente(long version, Long versionPersistida) {
+    return versionPersistida != null && versionPersistida == version;
+  }
+
+  private int aplicar(Map<ClaveStock, Long> deltas, long segmento) {
+    return transactionTemplate.execute(estado -> {
+      List<ClaveStock> claves = new ArrayList<>(deltas.keySet());
+      Timestamp ahora = Timestamp.from(Instant.now());
+      List<Object[]> parametros = new ArrayList<>(claves.size());
+      claves.forEach(clave -> parametros.add(new Object[]{deltas.get(clave), ahora, clave.id(), clave.version()}));
+
+      int[] filas = parametros.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(SQL_APLICAR_DELTA, parametros);
+      registrarSegmentoAplicado(segmento);
+
+      Map<Long, Long> aplicados = new HashMap<>();
+      for (int i = 0; i < filas.length; i++) {
+        if (filas[i] > 0) {
+          aplicados.put(claves.get(i).id(), deltas.get(claves.get(i)));
+        }
+      }
+      publicarMovimientos(aplicados);
+      return aplicados.size();
+    });
+  }
+
+  private void publicarMovimientos(Map<Long, Long> aplicados) {
+    if (aplicados.isEmpty()) {
+      return;
+    }
+
+    productoRepository.findAllById(aplicados.keySet()).forEach(producto -> {
+      ProductoResponseDTO actual = mapper.toProductoResponseDTO(producto);
+      ProductoResponseDTO anterior = actual.toBuilder()
+          .stock((int) (actual.getStock() - aplicados.get(producto.getId())))
+          .build();
+      eventPublisher.publishEvent(ProductoModificadoEvent.stockActualizado(anterior, actual));
+    });
+  }
+
+  private long segmentoAplicado() {
+    List<Long> segmentos = jdbcTemplate.queryForList(SQL_SEGMENTO_APLICADO, Long.class);
+    return segmentos.isEmpty() || segmentos.get(0) == null ? 0 : segmentos.get(0);
+  }
+
+  private void registrarSegmentoAplicado(long segmento) {
+    if (jdbcTemplate.update(SQL_ACTUALIZAR_SEGMENTO, segmento) == 0) {
+      jdbcTemplate.update(SQL_INSERTAR_SEGMENTO, segmento);
+    }
+  }
+
+  private record StockEnMemoria(AtomicInteger stock, long version) {
+  }
+
+  private record Pendiente(long version, LongAdder delta) {
+  }
+}
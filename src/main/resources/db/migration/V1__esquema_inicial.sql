@@ -0,0 +1,17 @@
+create sequence producto_seq start with 1 increment by 50;
+
+create table producto (
+  id bigint not null,
+  nombre varchar(255),
+  descripcion varchar(255),
+  precio double precision,
+  stock integer,
+  categoria enum ('ELECTRONICA', 'ROPA', 'ALIMENTOS', 'HOGAR', 'DEPORTES'),
+  version bigint,
+  ultima_modificacion timestamp(6) with time zone,
+  primary key (id)
+);
+
+create index idx_producto_categoria_precio on producto (categoria, precio);
+create index idx_producto_categoria_id on producto (categoria, id);
+create index idx_producto_nombre on producto (nombre);
@@ -0,0 +1,14 @@
+create sequence evento_outbox_seq start with 1 increment by 50;
+
+create table evento_outbox (
+  id bigint not null,
+  tipo enum ('CREADO', 'ACTUALIZADO', 'STOCK_ACTUALIZADO', 'ELIMINADO'),
+  producto_id bigint,
+  payload varchar(2000),
+  creado timestamp(6) with time zone,
+  publicado boolean not null,
+  publicado_en timestamp(6) with time zone,
+  primary key (id)
+);
+
+create index idx_evento_outbox_pendientes on evento_outbox (publicado, id);
@@ -0,0 +1,9 @@
+create table clave_idempotencia (
+  clave varchar(255) not null,
+  huella varchar(64),
+  cuerpo varchar(4000),
+  expira timestamp(6) with time zone,
+  primary key (clave)
+);
+
+create index idx_clave_idempotencia_expira on clave_idempotencia (expira);
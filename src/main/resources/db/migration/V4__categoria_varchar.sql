@@ -0,0 +1 @@
+alter table producto alter column categoria set data type varchar(20);
@@ -0,0 +1,5 @@
+create table segmento_stock_aplicado (
+  id integer not null,
+  segmento bigint,
+  primary key (id)
+);
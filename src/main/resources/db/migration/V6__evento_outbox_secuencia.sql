@@ -0,0 +1,3 @@
+alter table evento_outbox add column secuencia bigint;
+
+create index idx_evento_outbox_secuencia on evento_outbox (secuencia);
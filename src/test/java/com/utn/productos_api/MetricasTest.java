@@ -0,0 +1,108 @@
+package com.utn.productos_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.service.ProductoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metricas")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricasTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private ProductoService productoService;
+
+  @Test
+  void registraTimersDeCadaOperacionDelServicio() {
+    Long id = crearProducto(5);
+    productoService.obtenerPorId(id);
+    productoService.obtenerPorCategoria(Categoria.HOGAR);
+
+    assertThat(timerDeServicio("crearProducto")).isGreaterThanOrEqualTo(1);
+    assertThat(timerDeServicio("obtenerPorId")).isGreaterThanOrEqualTo(1);
+    assertThat(timerDeServicio("obtenerPorCategoria")).isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  void registraTimersDeLosEndpoints() throws Exception {
+    Long id = crearProducto(5);
+
+    mockMvc.perform(get("/api/productos/{id}", id)).andExpect(status().isOk());
+
+    assertThat(meterRegistry.get("http.server.requests")
+        .tag("uri", "/api/productos/{id}")
+        .tag("method", "GET")
+        .timer()
+        .count()).isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  void cuentaLasExcepcionesPorTipo() throws Exception {
+    Long id = crearProducto(1);
+
+    mockMvc.perform(get("/api/productos/{id}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    mockMvc.perform(post("/api/productos/{id}/stock/reservar", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"cantidad\":10}"))
+        .andExpect(status().isBadRequest());
+
+    assertThat(meterRegistry.get("productos.errores").tag("tipo", "ProductoNoEncontradoException").counter().count())
+        .isGreaterThanOrEqualTo(1);
+    assertThat(meterRegistry.get("productos.errores").tag("tipo", "StockInsuficienteException").counter().count())
+        .isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  void exponeMetricasDeHibernateDelPoolYDeLaCache() {
+    crearProducto(3);
+
+    assertThat(meterRegistry.get("hibernate.statements").tag("status", "prepared").functionCounter().count()).isGreaterThan(0);
+    assertThat(meterRegistry.get("hikaricp.connections").gauge().value()).isGreaterThan(0);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "productos.porId").meters()).isNotEmpty();
+    assertThat(meterRegistry.get("productos.stock.ledger.pendientes").gauge()).isNotNull();
+  }
+
+  @Test
+  void publicaElEndpointDePrometheus() throws Exception {
+    Long id = crearProducto(2);
+    productoService.obtenerPorId(id);
+
+    mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(Matchers.containsString("productos_servicio_seconds_bucket")))
+        .andExpect(content().string(Matchers.containsString("hikaricp_connections")));
+  }
+
+  private long timerDeServicio(String metodo) {
+    return meterRegistry.get("productos.servicio")
+        .tag("class", ProductoService.class.getName())
+        .tag("method", metodo)
+        .timer()
+        .count();
+  }
+
+  private Long crearProducto(int stock) {
+    return productoService.crearProducto(ProductosDePrueba.producto("Producto con métricas", Categoria.HOGAR, stock))
+        .getId();
+  }
+}
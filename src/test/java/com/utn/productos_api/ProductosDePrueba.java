@@ -0,0 +1,20 @@
+package com.utn.productos_api;
+
+import com.utn.productos_api.dto.ProductoDTO;
+import com.utn.productos_api.model.Categoria;
+
+public final class ProductosDePrueba {
+
+  private ProductosDePrueba() {
+  }
+
+  public static ProductoDTO producto(String nombre, Categoria categoria, int stock) {
+    ProductoDTO dto = new ProductoDTO();
+    dto.setNombre(nombre);
+    dto.setDescripcion("Producto creado por los tests");
+    dto.setPrecio(1500.0);
+    dto.setStock(stock);
+    dto.setCategoria(categoria);
+    return dto;
+  }
+}
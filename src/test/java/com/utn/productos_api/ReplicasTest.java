@@ -0,0 +1,117 @@
+package com.utn.productos_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.exceptions.ProductoNoEncontradoException;
+import com.utn.productos_api.replicas.GrupoReplicas;
+import com.utn.productos_api.service.ProductoService;
+import jakarta.servlet.http.Cookie;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replicas-primaria;LOCK_TIMEOUT=10000",
+    "productos.replicas.urls=jdbc:h2:mem:replicas-replica;LOCK_TIMEOUT=10000",
+    "productos.replicas.intervalo-latido-ms=3600000",
+    "productos.cache.enabled=false"
+})
+@ActiveProfiles("replicas")
+@AutoConfigureMockMvc
+class ReplicasTest {
+
+  private static final Path ESQUEMA = Path.of("target", "replicas-esquema.sql").toAbsolutePath();
+  private static final String COOKIE_LECTURA_PRIMARIA = "productos-lectura-primaria";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private ProductoService productoService;
+
+  @Autowired
+  private GrupoReplicas grupoReplicas;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Value("${productos.replicas.urls}")
+  private String urlReplica;
+
+  private JdbcTemplate replica;
+
+  @BeforeEach
+  void replicarEsquema() {
+    replica = new JdbcTemplate(new DriverManagerDataSource(urlReplica, "sa", ""));
+
+    jdbcTemplate.execute("script nodata to '" + ESQUEMA + "'");
+    replica.execute("drop all objects");
+    replica.execute("runscript from '" + ESQUEMA + "'");
+    replica.execute("create table if not exists latido_replica (id int primary key, instante bigint)");
+
+    registrarLatidoEnReplica(System.currentTimeMillis());
+  }
+
+  @Test
+  void leeDesdeLaReplicaLasTransaccionesDeSoloLectura() {
+    insertarSoloEnReplica(900_001L);
+
+    assertThat(productoService.obtenerPorId(900_001L).getNombre()).isEqualTo("Solo en la réplica");
+  }
+
+  @Test
+  void derivaALaPrimariaCuandoLaReplicaEstaAtrasada() {
+    insertarSoloEnReplica(900_002L);
+    registrarLatidoEnReplica(System.currentTimeMillis() - 3_600_000);
+
+    assertThatThrownBy(() -> productoService.obtenerPorId(900_002L))
+        .isInstanceOf(ProductoNoEncontradoException.class);
+  }
+
+  @Test
+  void leeSusPropiasEscriturasDesdeLaPrimaria() throws Exception {
+    MvcResult creado = mockMvc.perform(post("/api/productos")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"nombre\":\"Escrito en la primaria\",\"precio\":10.0,\"stock\":1,\"categoria\":\"HOGAR\"}"))
+        .andExpect(status().isCreated())
+        .andReturn();
+    long id = objectMapper.readTree(creado.getResponse().getContentAsString()).get("id").asLong();
+    Cookie lecturaPrimaria = creado.getResponse().getCookie(COOKIE_LECTURA_PRIMARIA);
+
+    assertThat(lecturaPrimaria).isNotNull();
+    mockMvc.perform(get("/api/productos/{id}", id).cookie(lecturaPrimaria)).andExpect(status().isOk());
+    mockMvc.perform(get("/api/productos/{id}", id)).andExpect(status().isNotFound());
+  }
+
+  private void registrarLatidoEnReplica(long instante) {
+    replica.update("merge into latido_replica (id, instante) key (id) values (1, ?)", instante);
+    grupoReplicas.actualizarLatido();
+  }
+
+  private void insertarSoloEnReplica(long id) {
+    replica.update("insert into producto (id, nombre, descripcion, precio, stock, categoria, version, "
+            + "ultima_modificacion) values (?, ?, ?, ?, ?, ?, ?, ?)",
+        id, "Solo en la réplica", "Fila presente únicamente en la réplica", 10.0, 5, "HOGAR", 0L,
+        Timestamp.from(Instant.now()));
+  }
+}
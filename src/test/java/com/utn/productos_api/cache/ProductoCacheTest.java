@@ -0,0 +1,71 @@
+package com.utn.productos_api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.model.Categoria;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ProductoCacheTest {
+
+  private final ProductoCache cache = new ProductoCache(true, 100, 100, Duration.ofMinutes(5));
+
+  @Test
+  void losFaltantesSeCarganJuntosSinGuardarseEnLaCache() {
+    cache.obtenerPorId(1L, () -> producto(1L, "Cafetera"));
+    AtomicInteger cargas = new AtomicInteger();
+
+    Map<Long, ProductoResponseDTO> encontrados = cache.obtenerVarios(List.of(1L, 2L, 3L), faltantes -> {
+      cargas.incrementAndGet();
+      assertThat(faltantes).containsExactlyInAnyOrder(2L, 3L);
+      return Map.of(2L, producto(2L, "Tostadora"));
+    });
+
+    assertThat(encontrados).containsOnlyKeys(1L, 2L);
+    assertThat(cargas).hasValue(1);
+    assertThat(cache.buscarPorId(2L)).isEmpty();
+  }
+
+  @Test
+  void unaModificacionDuranteLaCargaNoDejaUnaVersionViejaEnLaCache() {
+    ProductoResponseDTO viejo = producto(5L, "Pava eléctrica");
+    ProductoResponseDTO nuevo = producto(5L, "Pava eléctrica con termostato");
+
+    cache.obtenerVarios(List.of(5L), faltantes -> {
+      cache.invalidar(ProductoModificadoEvent.actualizado(viejo, nuevo));
+      return Map.of(5L, viejo);
+    });
+
+    assertThat(cache.obtenerVarios(List.of(5L), faltantes -> Map.of(5L, nuevo)))
+        .containsEntry(5L, nuevo);
+  }
+
+  @Test
+  void conLaCacheDeshabilitadaSeCarganTodos() {
+    ProductoCache deshabilitada = new ProductoCache(false, 100, 100, Duration.ofMinutes(5));
+
+    Map<Long, ProductoResponseDTO> encontrados = deshabilitada.obtenerVarios(List.of(7L, 8L), faltantes -> {
+      assertThat(faltantes).isEqualTo(Set.of(7L, 8L));
+      return Map.of(7L, producto(7L, "Exprimidor"));
+    });
+
+    assertThat(encontrados).containsOnlyKeys(7L);
+  }
+
+  private static ProductoResponseDTO producto(Long id, String nombre) {
+    return ProductoResponseDTO.builder()
+        .id(id)
+        .nombre(nombre)
+        .precio(1000.0)
+        .stock(3)
+        .categoria(Categoria.HOGAR)
+        .version(0L)
+        .build();
+  }
+}
@@ -0,0 +1,72 @@
+package com.utn.productos_api.catalogo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.utn.productos_api.ProductosDePrueba;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.service.ProductoService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:catalogo-memoria",
+    "productos.catalogo-memoria.enabled=true",
+    "productos.catalogo-memoria.intervalo-ms=3600000"
+})
+class CatalogoEnMemoriaTest {
+
+  @Autowired
+  private CatalogoEnMemoria catalogoEnMemoria;
+
+  @Autowired
+  private ProductoService productoService;
+
+  @Test
+  void unProductoCreadoDespuesDeLaCopiaSeLeeDeLaBase() {
+    catalogoEnMemoria.reconstruir();
+
+    ProductoResponseDTO creado = productoService.crearProducto(
+        ProductosDePrueba.producto("Parlante de escritorio", Categoria.ELECTRONICA, 4));
+
+    assertThat(productoService.obtenerPorId(creado.getId()).getNombre()).isEqualTo("Parlante de escritorio");
+    assertThat(productoService.obtenerVarios(List.of(creado.getId())).getFaltantes()).isEmpty();
+    assertThat(productoService.obtenerPagina(null, 500).getProductos())
+        .extracting(ProductoResponseDTO::getId)
+        .contains(creado.getId());
+  }
+
+  @Test
+  void unaModificacionPosteriorALaCopiaNoDevuelveDatosViejos() {
+    ProductoResponseDTO creado = productoService.crearProducto(
+        ProductosDePrueba.producto("Campera rompevientos", Categoria.ROPA, 6));
+    catalogoEnMemoria.reconstruir();
+
+    productoService.actualizarProducto(creado.getId(),
+        ProductosDePrueba.producto("Campera rompevientos con capucha", Categoria.ROPA, 6));
+
+    assertThat(productoService.obtenerPorId(creado.getId()).getNombre()).isEqualTo("Campera rompevientos con capucha");
+    assertThat(productoService.obtenerPorCategoria(Categoria.ROPA))
+        .extracting(ProductoResponseDTO::getNombre)
+        .contains("Campera rompevientos con capucha")
+        .doesNotContain("Campera rompevientos");
+  }
+
+  @Test
+  void laCopiaVuelveAUsarseAlReconstruirse() {
+    CatalogoColumnar anterior = catalogoEnMemoria.reconstruir();
+    ProductoResponseDTO creado = productoService.crearProducto(
+        ProductosDePrueba.producto("Pelota de vóley", Categoria.DEPORTES, 8));
+    assertThat(catalogoEnMemoria.vigente(anterior, creado.getId())).isFalse();
+    assertThat(catalogoEnMemoria.vigente(anterior, Categoria.DEPORTES)).isFalse();
+
+    CatalogoColumnar reconstruido = catalogoEnMemoria.reconstruir();
+
+    assertThat(catalogoEnMemoria.vigente(reconstruido, creado.getId())).isTrue();
+    assertThat(catalogoEnMemoria.vigente(reconstruido, Categoria.DEPORTES)).isTrue();
+    assertThat(catalogoEnMemoria.vigente(anterior, creado.getId())).isFalse();
+    assertThat(reconstruido.obtenerPorId(creado.getId())).isPresent();
+  }
+}
@@ -0,0 +1,60 @@
+package com.utn.productos_api.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.utn.productos_api.ProductosDePrueba;
+import com.utn.productos_api.dto.ProductoDTO;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.service.ProductoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:busqueda-sin-indice",
+    "productos.limites.enabled=false",
+    "productos.busqueda.enabled=false"
+})
+@AutoConfigureMockMvc
+class BusquedaSinIndiceTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ProductoService productoService;
+
+  @Test
+  void sinIndiceLaBusquedaSeResuelveEnLaBase() throws Exception {
+    Long termo = crear("Termo de acero 1L", "Termo con pico cebador");
+    Long mate = crear("Mate imperial", "Mate de calabaza con virola de acero");
+    crear("Yerbera", "Recipiente de vidrio");
+
+    mockMvc.perform(get("/api/productos/search").param("q", "ACERO"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].id").value(termo))
+        .andExpect(jsonPath("$[1].id").value(mate));
+
+    mockMvc.perform(get("/api/productos/search").param("q", "acero mate"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].id").value(mate));
+  }
+
+  @Test
+  void sinIndiceUnaConsultaVaciaSigueSiendoInvalida() throws Exception {
+    mockMvc.perform(get("/api/productos/search").param("q", " "))
+        .andExpect(status().isBadRequest());
+  }
+
+  private Long crear(String nombre, String descripcion) {
+    ProductoDTO producto = ProductosDePrueba.producto(nombre, Categoria.HOGAR, 5);
+    producto.setDescripcion(descripcion);
+    return productoService.crearProducto(producto).getId();
+  }
+}
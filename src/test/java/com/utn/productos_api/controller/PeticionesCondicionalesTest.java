@@ -0,0 +1,175 @@
+package com.utn.productos_api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.exceptions.ExceptionManagerService;
+import com.utn.productos_api.model.Producto;
+import com.utn.productos_api.repository.ProductoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:condicionales",
+    "productos.limites.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class PeticionesCondicionalesTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private ProductoRepository productoRepository;
+
+  @Autowired
+  private ExceptionManagerService exceptionManagerService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void obtenerPorIdConElMismoEtagDevuelve304() throws Exception {
+    Long id = crear("Lámpara de escritorio", "HOGAR");
+    String etag = etag("/api/productos/" + id);
+
+    mockMvc.perform(get("/api/productos/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag));
+  }
+
+  @Test
+  void unGetSinEncabezadosCondicionalesSeRespondeDesdeLaCacheSinConsultarLaBase() throws Exception {
+    Long id = crear("Velador de mesa", "HOGAR");
+    String etag = etag("/api/productos/" + id);
+    Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    estadisticas.clear();
+
+    mockMvc.perform(get("/api/productos/{id}", id))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+
+    assertThat(estadisticas.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  void obtenerPorIdDevuelveElProductoCuandoCambioDesdeElEtag() throws Exception {
+    Long id = crear("Silla de oficina", "HOGAR");
+    String etag = etag("/api/productos/" + id);
+
+    mockMvc.perform(put("/api/productos/{id}", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(producto("Silla de oficina ergonómica", "HOGAR")))
+        .andExpect(status().isOk());
+
+    String nuevo = mockMvc.perform(get("/api/productos/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nombre").value("Silla de oficina ergonómica"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    assertThat(nuevo).isNotEqualTo(etag);
+  }
+
+  @Test
+  void elListadoDevuelve304HastaQueCambiaElCatalogo() throws Exception {
+    crear("Mate de calabaza", "HOGAR");
+    String etag = etag("/api/productos");
+
+    mockMvc.perform(get("/api/productos").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+
+    crear("Bombilla de acero", "HOGAR");
+
+    mockMvc.perform(get("/api/productos").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void laCategoriaDevuelve304MientrasNoCambianSusProductos() throws Exception {
+    crear("Campera de abrigo", "ROPA");
+    String etag = etag("/api/productos/categoria/ROPA");
+
+    crear("Pelota de básquet", "DEPORTES");
+
+    mockMvc.perform(get("/api/productos/categoria/ROPA").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+
+    crear("Gorro de lana", "ROPA");
+
+    mockMvc.perform(get("/api/productos/categoria/ROPA").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void unaEscrituraConVersionVencidaSeRespondeConConflicto() throws Exception {
+    Long id = crear("Cafetera italiana", "HOGAR");
+    Producto leido = productoRepository.findById(id).orElseThrow();
+
+    mockMvc.perform(put("/api/productos/{id}", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(producto("Cafetera italiana 6 tazas", "HOGAR")))
+        .andExpect(status().isOk());
+
+    leido.setNombre("Cafetera italiana 3 tazas");
+    ObjectOptimisticLockingFailureException conflicto =
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> productoRepository.save(leido));
+
+    ResponseEntity<Map<String, Object>> respuesta = exceptionManagerService.handlerConflictoDeVersion(
+        conflicto, new MockHttpServletRequest("PUT", "/api/productos/" + id));
+    assertThat(respuesta.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    assertThat(respuesta.getBody()).containsEntry("status", 409);
+  }
+
+  private Long crear(String nombre, String categoria) throws Exception {
+    String cuerpo = mockMvc.perform(post("/api/productos")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(producto(nombre, categoria)))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsString();
+    JsonNode creado = objectMapper.readTree(cuerpo);
+    return creado.get("id").asLong();
+  }
+
+  private String etag(String uri) throws Exception {
+    String etag = mockMvc.perform(get(uri).accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    assertThat(etag).isNotBlank();
+    return etag;
+  }
+
+  private String producto(String nombre, String categoria) throws Exception {
+    return objectMapper.writeValueAsString(Map.of(
+        "nombre", nombre,
+        "descripcion", "Producto de prueba de peticiones condicionales",
+        "precio", 2500.0,
+        "stock", 7,
+        "categoria", categoria
+    ));
+  }
+}
@@ -0,0 +1,202 @@
+package com.utn.productos_api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+abstract class ProductoApiContrato {
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @Test
+  void crearProductoDevuelveElProductoConId() {
+    webTestClient.post().uri("/api/productos")
+        .bodyValue(producto("Teclado mecánico", 15000.0, 10, "ELECTRONICA"))
+        .exchange()
+        .expectStatus().isCreated()
+        .expectBody()
+        .jsonPath("$.id").isNumber()
+        .jsonPath("$.nombre").isEqualTo("Teclado mecánico")
+        .jsonPath("$.precio").isEqualTo(15000.0)
+        .jsonPath("$.stock").isEqualTo(10)
+        .jsonPath("$.categoria").isEqualTo("ELECTRONICA");
+  }
+
+  @Test
+  void crearProductoInvalidoDevuelve400() {
+    webTestClient.post().uri("/api/productos")
+        .bodyValue(producto("ab", 0.0, -1, "ELECTRONICA"))
+        .exchange()
+        .expectStatus().isBadRequest();
+  }
+
+  @Test
+  void obtenerPorIdDevuelveElProducto() {
+    Long id = crear(producto("Pava eléctrica", 9000.0, 5, "HOGAR"));
+
+    webTestClient.get().uri("/api/productos/{id}", id)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.id").isEqualTo(id)
+        .jsonPath("$.nombre").isEqualTo("Pava eléctrica");
+  }
+
+  @Test
+  void obtenerPorIdInexistenteDevuelve404() {
+    webTestClient.get().uri("/api/productos/{id}", Long.MAX_VALUE)
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody()
+        .jsonPath("$.status").isEqualTo(404)
+        .jsonPath("$.path").isEqualTo("/api/productos/" + Long.MAX_VALUE);
+  }
+
+  @Test
+  void listarDevuelvePaginasEnlazadasPorCursor() {
+    crear(producto("Pelota de fútbol", 12000.0, 3, "DEPORTES"));
+    crear(producto("Raqueta de tenis", 30000.0, 2, "DEPORTES"));
+    crear(producto("Paleta de pádel", 25000.0, 4, "DEPORTES"));
+
+    Map<String, Object> primera = obtenerPagina("/api/productos?limite=2");
+    assertThat((List<?>) primera.get("productos")).hasSize(2);
+    assertThat(primera.get("limite")).isEqualTo(2);
+    assertThat(primera.get("siguienteCursor")).isNotNull();
+
+    Map<String, Object> segunda = obtenerPagina("/api/productos?limite=2&cursor=" + primera.get("siguienteCursor"));
+    assertThat((List<?>) segunda.get("productos")).isNotEmpty();
+  }
+
+  @Test
+  void listarConLimiteFueraDeRangoDevuelve400() {
+    webTestClient.get().uri("/api/productos?limite=0")
+        .exchange()
+        .expectStatus().isBadRequest();
+  }
+
+  @Test
+  void listarComoNdjsonTransmiteTodosLosProductos() {
+    Long id = crear(producto("Campera de abrigo", 40000.0, 7, "ROPA"));
+
+    List<Map> productos = webTestClient.get().uri("/api/productos")
+        .accept(MediaType.APPLICATION_NDJSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .returnResult(Map.class)
+        .getResponseBody()
+        .collectList()
+        .block();
+
+    assertThat(productos).extracting(producto -> ((Number) producto.get("id")).longValue()).contains(id);
+  }
+
+  @Test
+  void filtrarPorCategoriaDevuelveSoloEsaCategoria() {
+    Long id = crear(producto("Yerba mate", 3500.0, 40, "ALIMENTOS"));
+
+    webTestClient.get().uri("/api/productos/categoria/ALIMENTOS")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$[?(@.id == " + id + ")].nombre").isEqualTo("Yerba mate")
+        .jsonPath("$[?(@.categoria != 'ALIMENTOS')]").isEmpty();
+  }
+
+  @Test
+  void actualizarProductoReemplazaSusDatos() {
+    Long id = crear(producto("Silla de oficina", 60000.0, 8, "HOGAR"));
+
+    webTestClient.put().uri("/api/productos/{id}", id)
+        .bodyValue(producto("Silla ergonómica", 75000.0, 6, "HOGAR"))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.id").isEqualTo(id)
+        .jsonPath("$.nombre").isEqualTo("Silla ergonómica")
+        .jsonPath("$.precio").isEqualTo(75000.0)
+        .jsonPath("$.stock").isEqualTo(6);
+  }
+
+  @Test
+  void actualizarProductoInexistenteDevuelve404() {
+    webTestClient.put().uri("/api/productos/{id}", Long.MAX_VALUE)
+        .bodyValue(producto("Silla ergonómica", 75000.0, 6, "HOGAR"))
+        .exchange()
+        .expectStatus().isNotFound();
+  }
+
+  @Test
+  void actualizarStockModificaSoloElStock() {
+    Long id = crear(producto("Zapatillas running", 55000.0, 12, "DEPORTES"));
+
+    webTestClient.patch().uri("/api/productos/{id}/stock", id)
+        .bodyValue(Map.of("stock", 30))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.stock").isEqualTo(30)
+        .jsonPath("$.nombre").isEqualTo("Zapatillas running");
+  }
+
+  @Test
+  void actualizarStockNegativoDevuelve400() {
+    Long id = crear(producto("Gorra deportiva", 7000.0, 12, "ROPA"));
+
+    webTestClient.patch().uri("/api/productos/{id}/stock", id)
+        .bodyValue(Map.of("stock", -5))
+        .exchange()
+        .expectStatus().isBadRequest();
+  }
+
+  @Test
+  void eliminarProductoLoQuitaDelCatalogo() {
+    Long id = crear(producto("Lámpara de escritorio", 11000.0, 9, "HOGAR"));
+
+    webTestClient.delete().uri("/api/productos/{id}", id)
+        .exchange()
+        .expectStatus().isNoContent();
+
+    webTestClient.get().uri("/api/productos/{id}", id)
+        .exchange()
+        .expectStatus().isNotFound();
+  }
+
+  private Long crear(Map<String, Object> producto) {
+    Map<?, ?> creado = webTestClient.post().uri("/api/productos")
+        .bodyValue(producto)
+        .exchange()
+        .expectStatus().isCreated()
+        .expectBody(Map.class)
+        .returnResult()
+        .getResponseBody();
+    return ((Number) creado.get("id")).longValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> obtenerPagina(String uri) {
+    return webTestClient.get().uri(uri)
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(Map.class)
+        .returnResult()
+        .getResponseBody();
+  }
+
+  private static Map<String, Object> producto(String nombre, double precio, int stock, String categoria) {
+    return Map.of(
+        "nombre", nombre,
+        "descripcion", "Producto de prueba del contrato de la API",
+        "precio", precio,
+        "stock", stock,
+        "categoria", categoria
+    );
+  }
+}
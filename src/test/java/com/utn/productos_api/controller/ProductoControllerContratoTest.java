@@ -0,0 +1,10 @@
+package com.utn.productos_api.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.datasource.url=jdbc:h2:mem:contrato-servlet"
+)
+class ProductoControllerContratoTest extends ProductoApiContrato {
+}
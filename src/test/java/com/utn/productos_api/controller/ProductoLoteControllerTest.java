@@ -0,0 +1,104 @@
+package com.utn.productos_api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.ProductosDePrueba;
+import com.utn.productos_api.dto.ProductoDTO;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.repository.ProductoRepository;
+import com.utn.productos_api.service.LectorLineas;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:lotes",
+    "productos.limites.enabled=false",
+    "productos.lote.maximo-items=5"
+})
+@AutoConfigureMockMvc
+class ProductoLoteControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private ProductoRepository productoRepository;
+
+  @BeforeEach
+  void limpiar() {
+    productoRepository.deleteAll();
+  }
+
+  @Test
+  void unFlujoNdjsonQueSuperaElMaximoSeRechazaSinGuardarNada() throws Exception {
+    List<ProductoDTO> productos = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      productos.add(ProductosDePrueba.producto("Producto NDJSON " + i, Categoria.HOGAR, 3));
+    }
+
+    mockMvc.perform(post("/api/productos/bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(ndjson(productos)))
+        .andExpect(status().isBadRequest());
+
+    assertThat(productoRepository.count()).isZero();
+  }
+
+  @Test
+  void unaLineaNdjsonQueSuperaElMaximoDeCaracteresSeRechazaSinGuardarNada() throws Exception {
+    ProductoDTO extenso = ProductosDePrueba.producto("Producto con descripción extensa", Categoria.HOGAR, 3);
+    extenso.setDescripcion("x".repeat(LectorLineas.MAXIMO_CARACTERES_LINEA));
+    List<ProductoDTO> productos = List.of(ProductosDePrueba.producto("Tetera de hierro", Categoria.HOGAR, 3), extenso);
+
+    mockMvc.perform(post("/api/productos/bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(ndjson(productos)))
+        .andExpect(status().isBadRequest());
+
+    assertThat(productoRepository.count()).isZero();
+  }
+
+  @Test
+  void unElementoQueLaBaseRechazaNoImpideGuardarElRestoDelLote() throws Exception {
+    ProductoDTO rechazado = ProductosDePrueba.producto("Producto con descripción extensa", Categoria.HOGAR, 3);
+    rechazado.setDescripcion("x".repeat(300));
+    List<ProductoDTO> productos = List.of(
+        ProductosDePrueba.producto("Tetera de hierro", Categoria.HOGAR, 3),
+        rechazado,
+        ProductosDePrueba.producto("Jarra de vidrio", Categoria.HOGAR, 3));
+
+    mockMvc.perform(post("/api/productos/bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(ndjson(productos)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.exitosos").value(2))
+        .andExpect(jsonPath("$.fallidos").value(1))
+        .andExpect(jsonPath("$.items[0].estado").value("CREADO"))
+        .andExpect(jsonPath("$.items[1].estado").value("ERROR"))
+        .andExpect(jsonPath("$.items[2].estado").value("CREADO"));
+
+    assertThat(productoRepository.count()).isEqualTo(2);
+  }
+
+  private String ndjson(List<ProductoDTO> productos) throws Exception {
+    StringBuilder cuerpo = new StringBuilder();
+    for (ProductoDTO producto : productos) {
+      cuerpo.append(objectMapper.writeValueAsString(producto)).append('\n');
+    }
+    return cuerpo.toString();
+  }
+}
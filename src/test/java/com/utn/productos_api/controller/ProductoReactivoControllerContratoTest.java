@@ -0,0 +1,52 @@
+package com.utn.productos_api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.utn.productos_api.ProductosDePrueba;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.model.Producto;
+import com.utn.productos_api.repository.ProductoRepository;
+import com.utn.productos_api.service.ProductoReactivoService;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.datasource.url=jdbc:h2:mem:contrato-reactivo",
+        "spring.r2dbc.url=r2dbc:h2:mem:///contrato-reactivo"
+    }
+)
+@ActiveProfiles("reactive")
+class ProductoReactivoControllerContratoTest extends ProductoApiContrato {
+
+  @Autowired
+  private ProductoReactivoService productoReactivoService;
+
+  @Autowired
+  private ProductoRepository productoRepository;
+
+  @Test
+  void losIdsReactivosNoChocanConLosQueAsignaHibernate() {
+    Set<Long> ids = new HashSet<>();
+    int altas = Producto.BLOQUE_IDS * 2;
+
+    for (int i = 0; i < altas; i++) {
+      ids.add(productoRepository.save(Producto.builder()
+          .nombre("Producto JPA " + i)
+          .precio(100.0)
+          .stock(1)
+          .categoria(Categoria.HOGAR)
+          .build()).getId());
+      ids.add(productoReactivoService.crearProducto(
+          ProductosDePrueba.producto("Producto reactivo " + i, Categoria.HOGAR, 1)).block().getId());
+    }
+
+    assertThat(ids).hasSize(altas * 2);
+  }
+}
@@ -0,0 +1,140 @@
+package com.utn.productos_api.estadisticas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.utn.productos_api.ProductosDePrueba;
+import com.utn.productos_api.dto.EstadisticasDTO;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.exceptions.EstadisticasNoDisponiblesException;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.service.ProductoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:estadisticas",
+    "productos.limites.enabled=false"
+})
+@AutoConfigureMockMvc
+class EstadisticasCatalogoTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private EstadisticasCatalogo estadisticasCatalogo;
+
+  @Autowired
+  private ProductoService productoService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void lasEstadisticasDeUnaCategoriaReflejanLasAltasYModificaciones() throws Exception {
+    productoService.crearProducto(ProductosDePrueba.producto("Tabla de surf", Categoria.DEPORTES, 2));
+    Long remera = productoService.crearProducto(ProductosDePrueba.producto("Remera de running", Categoria.DEPORTES, 5))
+        .getId();
+    productoService.actualizarProducto(remera, ProductosDePrueba.producto("Remera de running", Categoria.DEPORTES, 0));
+
+    mockMvc.perform(get("/api/productos/stats/DEPORTES"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.cantidad").value(cantidadEnBase(Categoria.DEPORTES)))
+        .andExpect(jsonPath("$.stockTotal").value(2))
+        .andExpect(jsonPath("$.sinStock").value(1));
+
+    mockMvc.perform(get("/api/productos/stats"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.general.cantidad").value(cantidadEnBase(null)))
+        .andExpect(jsonPath("$.porCategoria.DEPORTES.cantidad").value(cantidadEnBase(Categoria.DEPORTES)));
+  }
+
+  @Test
+  void laVerificacionCorrigeUnDesvioConLaBase() {
+    productoService.crearProducto(ProductosDePrueba.producto("Lámpara colgante", Categoria.HOGAR, 3));
+    double desviosAntes = desvios();
+
+    jdbcTemplate.update("update producto set stock = stock + 100 where categoria = 'HOGAR'");
+    estadisticasCatalogo.verificar();
+
+    assertThat(estadisticasCatalogo.obtener(Categoria.HOGAR).getStockTotal())
+        .isEqualTo(jdbcTemplate.queryForObject("select sum(stock) from producto where categoria = 'HOGAR'", Long.class));
+    assertThat(desvios()).isEqualTo(desviosAntes + 1);
+  }
+
+  @Test
+  void unCambioConfirmadoQueAunNoSeRegistroNoSeCuentaDosVeces() {
+    estadisticasCatalogo.verificar();
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(estado -> {
+      productoService.crearProducto(ProductosDePrueba.producto("Buzo de algodón", Categoria.ROPA, 4));
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          CompletableFuture.runAsync(estadisticasCatalogo::verificar).join();
+        }
+      });
+    });
+
+    assertThat(estadisticasCatalogo.obtener(Categoria.ROPA).getCantidad()).isEqualTo(cantidadEnBase(Categoria.ROPA));
+  }
+
+  @Test
+  void unaBajaAntesDeInicializarNoSeAcumulaYLasEstadisticasNoSeSirven() {
+    ProductoResponseDTO creado = productoService.crearProducto(
+        ProductosDePrueba.producto("Cuchillo de asado", Categoria.ALIMENTOS, 2));
+    EstadisticasCatalogo sinInicializar = new EstadisticasCatalogo(jdbcTemplate);
+
+    sinInicializar.registrar(ProductoModificadoEvent.eliminado(creado));
+
+    assertThatThrownBy(sinInicializar::obtener).isInstanceOf(EstadisticasNoDisponiblesException.class);
+    assertThatThrownBy(() -> sinInicializar.obtener(Categoria.ALIMENTOS))
+        .isInstanceOf(EstadisticasNoDisponiblesException.class);
+
+    sinInicializar.verificar();
+
+    assertThat(sinInicializar.obtener(Categoria.ALIMENTOS).getCantidad()).isEqualTo(cantidadEnBase(Categoria.ALIMENTOS));
+  }
+
+  @Test
+  void unAcumuladorSinPreciosNoFallaAlResumirse() {
+    Acumulador acumulador = new Acumulador();
+    acumulador.quitar(1500.0, 3);
+
+    EstadisticasDTO resumen = acumulador.resumen();
+
+    assertThat(resumen.getPrecioMinimo()).isNull();
+    assertThat(resumen.getPrecioPromedio()).isNull();
+  }
+
+  private long cantidadEnBase(Categoria categoria) {
+    return categoria == null
+        ? jdbcTemplate.queryForObject("select count(*) from producto", Long.class)
+        : jdbcTemplate.queryForObject("select count(*) from producto where categoria = ?", Long.class, categoria.name());
+  }
+
+  private double desvios() {
+    return meterRegistry.get("productos.estadisticas.verificaciones").tag("resultado", "desvio").functionCounter().count();
+  }
+}
@@ -0,0 +1,99 @@
+package com.utn.productos_api.idempotencia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.utn.productos_api.exceptions.ClaveIdempotenciaReutilizadaException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:idempotencia-base-datos",
+    "productos.idempotencia.almacen=base-datos"
+})
+class AlmacenIdempotenciaBaseDatosTest {
+
+  @Autowired
+  private AlmacenIdempotencia almacen;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  void unaClaveReservadaNoSePuedeVolverAReservar() {
+    assertThat(almacen.reservar("reserva-unica", "huella")).isTrue();
+    assertThat(almacen.reservar("reserva-unica", "huella")).isFalse();
+    assertThat(almacen.obtener("reserva-unica")).hasValueSatisfying(respuesta -> assertThat(respuesta.completa()).isFalse());
+  }
+
+  @Test
+  void unDuplicadoEnOtraInstanciaEsperaElResultadoSinEjecutarDeNuevo() throws Exception {
+    Idempotencia instanciaA = nuevaInstancia();
+    Idempotencia instanciaB = nuevaInstancia();
+    AtomicInteger ejecuciones = new AtomicInteger();
+    CountDownLatch iniciada = new CountDownLatch(1);
+    CountDownLatch liberar = new CountDownLatch(1);
+
+    CompletableFuture<ResultadoIdempotente<String>> primera = CompletableFuture.supplyAsync(() ->
+        instanciaA.ejecutar("entre-instancias", "POST /api/productos", Map.of("nombre", "Mate"), String.class, () -> {
+          ejecuciones.incrementAndGet();
+          iniciada.countDown();
+          esperar(liberar);
+          return "creado";
+        }));
+    assertThat(iniciada.await(10, TimeUnit.SECONDS)).isTrue();
+
+    CompletableFuture<ResultadoIdempotente<String>> duplicada = CompletableFuture.supplyAsync(() ->
+        instanciaB.ejecutar("entre-instancias", "POST /api/productos", Map.of("nombre", "Mate"), String.class, () -> {
+          ejecuciones.incrementAndGet();
+          return "duplicado";
+        }));
+    Thread.sleep(200);
+    liberar.countDown();
+
+    assertThat(primera.get(10, TimeUnit.SECONDS)).isEqualTo(new ResultadoIdempotente<>("creado", false));
+    assertThat(duplicada.get(10, TimeUnit.SECONDS)).isEqualTo(new ResultadoIdempotente<>("creado", true));
+    assertThat(ejecuciones).hasValue(1);
+  }
+
+  @Test
+  void unaSolicitudFallidaLiberaLaClaveParaReintentar() {
+    Idempotencia idempotencia = nuevaInstancia();
+
+    assertThatThrownBy(() -> idempotencia.ejecutar("fallida", "POST /api/productos", Map.of("nombre", "Yerba"),
+        String.class, () -> {
+          throw new IllegalStateException("fallo");
+        })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(idempotencia.ejecutar("fallida", "POST /api/productos", Map.of("nombre", "Yerba"), String.class,
+        () -> "creado")).isEqualTo(new ResultadoIdempotente<>("creado", false));
+  }
+
+  @Test
+  void reusarUnaClaveReservadaConOtraSolicitudSeRechaza() {
+    assertThat(almacen.reservar("reusada", "otra-huella")).isTrue();
+
+    assertThatThrownBy(() -> nuevaInstancia().ejecutar("reusada", "POST /api/productos", Map.of("nombre", "Termo"),
+        String.class, () -> "creado")).isInstanceOf(ClaveIdempotenciaReutilizadaException.class);
+  }
+
+  private Idempotencia nuevaInstancia() {
+    return new Idempotencia(almacen, objectMapper, Duration.ofSeconds(10));
+  }
+
+  private static void esperar(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
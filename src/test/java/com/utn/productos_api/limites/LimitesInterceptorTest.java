@@ -0,0 +1,80 @@
+package com.utn.productos_api.limites;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:limites",
+    "productos.limites.tasa.ip.economico.por-segundo=0.01",
+    "productos.limites.tasa.ip.economico.rafaga=3",
+    "productos.limites.tasa.api-key.economico.por-segundo=0.01",
+    "productos.limites.tasa.api-key.economico.rafaga=2"
+})
+@AutoConfigureMockMvc
+class LimitesInterceptorTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  void cambiarDeApiKeyEnCadaSolicitudNoEvitaElLimiteDeLaIp() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      mockMvc.perform(get("/api/productos").param("ids", "1").with(ip("10.0.0.1"))
+              .header(LimitesInterceptor.API_KEY, "clave-" + i))
+          .andExpect(status().isOk());
+    }
+
+    mockMvc.perform(get("/api/productos").param("ids", "1").with(ip("10.0.0.1"))
+            .header(LimitesInterceptor.API_KEY, "clave-nueva"))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+  }
+
+  @Test
+  void unaApiKeyAgotadaSeLimitaAunqueCambieDeIp() throws Exception {
+    for (int i = 0; i < 2; i++) {
+      mockMvc.perform(get("/api/productos").param("ids", "1").with(ip("10.0.1." + i))
+              .header(LimitesInterceptor.API_KEY, "clave-compartida"))
+          .andExpect(status().isOk());
+    }
+
+    mockMvc.perform(get("/api/productos").param("ids", "1").with(ip("10.0.1.9"))
+            .header(LimitesInterceptor.API_KEY, "clave-compartida"))
+        .andExpect(status().isTooManyRequests());
+  }
+
+  @Test
+  void unaSolicitudRechazadaPorLaApiKeyNoConsumeElBaldeDeLaIp() throws Exception {
+    for (int i = 0; i < 2; i++) {
+      mockMvc.perform(get("/api/productos").param("ids", "1").with(ip("10.0.2." + i))
+              .header(LimitesInterceptor.API_KEY, "clave-agotada"))
+          .andExpect(status().isOk());
+    }
+    for (int i = 0; i < 5; i++) {
+      mockMvc.perform(get("/api/productos").param("ids", "1").with(ip("10.0.2.9"))
+              .header(LimitesInterceptor.API_KEY, "clave-agotada"))
+          .andExpect(status().isTooManyRequests());
+    }
+
+    for (int i = 0; i < 3; i++) {
+      mockMvc.perform(get("/api/productos").param("ids", "1").with(ip("10.0.2.9")))
+          .andExpect(status().isOk());
+    }
+  }
+
+  private static RequestPostProcessor ip(String direccion) {
+    return request -> {
+      request.setRemoteAddr(direccion);
+      return request;
+    };
+  }
+}
@@ -0,0 +1,100 @@
+package com.utn.productos_api.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.utn.productos_api.model.EventoOutbox;
+import com.utn.productos_api.repository.EventoOutboxRepository;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:despachador-outbox",
+    "productos.limites.enabled=false",
+    "productos.outbox.retencion=0s"
+})
+@AutoConfigureMockMvc
+class DespachadorOutboxTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private DespachadorOutbox despachadorOutbox;
+
+  @Autowired
+  private EventoOutboxRepository eventoOutboxRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void limpiar() {
+    despachadorOutbox.despachar();
+    jdbcTemplate.update("delete from evento_outbox");
+  }
+
+  @Test
+  void unEventoConfirmadoTardeRecibeUnaSecuenciaPosteriorALaYaPublicada() {
+    registrar(1000L);
+    despachadorOutbox.despachar();
+    registrar(999L);
+    despachadorOutbox.despachar();
+
+    long publicada = secuencia(1000L);
+    assertThat(secuencia(999L)).isEqualTo(publicada + 1);
+    assertThat(eventoOutboxRepository.findByPublicadoTrueAndSecuenciaGreaterThanOrderBySecuenciaAsc(publicada, Limit.of(10)))
+        .extracting(EventoOutbox::getId)
+        .containsExactly(999L);
+  }
+
+  @Test
+  void alRetomarDesdeUnaSecuenciaSeReenvianLosEventosPosteriores() throws Exception {
+    registrar(2000L);
+    despachadorOutbox.despachar();
+    registrar(1999L);
+    despachadorOutbox.despachar();
+
+    MvcResult resultado = mockMvc.perform(get("/api/productos/eventos")
+            .header("Last-Event-ID", secuencia(2000L)))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    String flujo = resultado.getResponse().getContentAsString();
+    assertThat(flujo).contains("id:" + secuencia(1999L)).doesNotContain("id:" + secuencia(2000L));
+  }
+
+  @Test
+  void laLimpiezaConservaElUltimoEventoPublicado() {
+    registrar(3000L);
+    registrar(3001L);
+    despachadorOutbox.despachar();
+
+    despachadorOutbox.limpiar();
+
+    assertThat(eventoOutboxRepository.findAll())
+        .extracting(EventoOutbox::getId)
+        .containsExactly(3001L);
+    assertThat(eventoOutboxRepository.findUltimaSecuencia()).isEqualTo(secuencia(3001L));
+  }
+
+  private void registrar(Long id) {
+    jdbcTemplate.update("insert into evento_outbox (id, tipo, producto_id, payload, creado, publicado) values (?, ?, ?, ?, ?, false)",
+        id, "CREADO", 1L, "{\"id\":1,\"nombre\":\"Producto de prueba\"}", Instant.now().minus(1, ChronoUnit.MINUTES));
+  }
+
+  private long secuencia(Long id) {
+    return eventoOutboxRepository.findById(id).orElseThrow().getSecuencia();
+  }
+}
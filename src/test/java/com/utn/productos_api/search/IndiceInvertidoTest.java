@@ -0,0 +1,75 @@
+package com.utn.productos_api.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IndiceInvertidoTest {
+
+  private IndiceInvertido indice;
+
+  @BeforeEach
+  void iniciar() {
+    indice = new IndiceInvertido();
+    indice.agregar(1L, "Laptop Dell Inspiron 15", "Laptop con procesador Intel Core i5");
+    indice.agregar(2L, "Mouse inalámbrico", "Mouse óptico compatible con laptop");
+    indice.agregar(3L, "Lámpara de escritorio", "Luz LED regulable");
+    indice.agregar(4L, "Teclado mecánico", "Teclado con switches azules");
+  }
+
+  @Test
+  void noDistingueMayusculasNiAcentos() {
+    assertThat(ids(indice.buscar("LAMPARA", 10))).containsExactly(3L);
+    assertThat(ids(indice.buscar("inalambrico", 10))).containsExactly(2L);
+  }
+
+  @Test
+  void lasCoincidenciasEnElNombrePesanMasQueEnLaDescripcion() {
+    assertThat(ids(indice.buscar("laptop", 10))).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void encuentraPorPrefijo() {
+    assertThat(ids(indice.buscar("tecl", 10))).containsExactly(4L);
+  }
+
+  @Test
+  void toleraUnErrorDeTipeoEnTerminosCortos() {
+    assertThat(ids(indice.buscar("tecaldo", 10))).isEmpty();
+    assertThat(ids(indice.buscar("teclado", 10))).containsExactly(4L);
+    assertThat(ids(indice.buscar("tecladi", 10))).containsExactly(4L);
+  }
+
+  @Test
+  void respetaElLimiteDeResultados() {
+    assertThat(indice.buscar("con", 2)).hasSize(2);
+  }
+
+  @Test
+  void agregarUnProductoExistenteReemplazaSusTerminos() {
+    indice.agregar(3L, "Velador de noche", "Luz cálida");
+
+    assertThat(indice.buscar("lampara", 10)).isEmpty();
+    assertThat(ids(indice.buscar("velador", 10))).containsExactly(3L);
+    assertThat(indice.documentos()).isEqualTo(4);
+  }
+
+  @Test
+  void quitarUnProductoLoSacaDeLosResultados() {
+    indice.quitar(1L);
+
+    assertThat(ids(indice.buscar("laptop", 10))).containsExactly(2L);
+    assertThat(indice.documentos()).isEqualTo(3);
+  }
+
+  @Test
+  void unaConsultaSinTerminosNoDevuelveResultados() {
+    assertThat(indice.buscar("  ¿? ", 10)).isEmpty();
+  }
+
+  private static List<Long> ids(List<ResultadoBusqueda> resultados) {
+    return resultados.stream().map(ResultadoBusqueda::id).toList();
+  }
+}
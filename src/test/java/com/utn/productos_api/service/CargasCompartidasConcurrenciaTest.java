@@ -0,0 +1,206 @@
+package com.utn.productos_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.exceptions.CargaDemoradaException;
+import com.utn.productos_api.exceptions.ProductoNoEncontradoException;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.model.Producto;
+import com.utn.productos_api.repository.ProductoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:cargas",
+    "productos.cache.enabled=false",
+    "productos.cargas-compartidas.espera=2s"
+})
+class CargasCompartidasConcurrenciaTest {
+
+  private static final int HILOS = 16;
+
+  @Autowired
+  private ProductoService productoService;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @MockitoBean
+  private ProductoRepository productoRepository;
+
+  private final AtomicInteger consultas = new AtomicInteger();
+  private final CountDownLatch liberar = new CountDownLatch(1);
+  private ExecutorService executor;
+
+  @BeforeEach
+  void iniciar() {
+    executor = Executors.newFixedThreadPool(HILOS);
+  }
+
+  @AfterEach
+  void detener() {
+    liberar.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void lecturasConcurrentesDelMismoIdConsultanLaBaseUnaSolaVez() throws Exception {
+    when(productoRepository.findById(1L)).thenAnswer(invocacion -> {
+      consultas.incrementAndGet();
+      liberar.await(10, TimeUnit.SECONDS);
+      return Optional.of(producto(1L, Categoria.ELECTRONICA));
+    });
+
+    List<Future<ProductoResponseDTO>> lecturas = lanzarConcurrentes(() -> productoService.obtenerPorId(1L));
+
+    for (Future<ProductoResponseDTO> lectura : lecturas) {
+      assertEquals(1L, lectura.get(10, TimeUnit.SECONDS).getId());
+    }
+    assertEquals(1, consultas.get());
+
+    productoService.obtenerPorId(1L);
+    assertEquals(2, consultas.get());
+  }
+
+  @Test
+  void lecturasConcurrentesDeLaMismaCategoriaConsultanLaBaseUnaSolaVez() throws Exception {
+    when(productoRepository.findByCategoria(Categoria.HOGAR)).thenAnswer(invocacion -> {
+      consultas.incrementAndGet();
+      liberar.await(10, TimeUnit.SECONDS);
+      return List.of(producto(2L, Categoria.HOGAR), producto(3L, Categoria.HOGAR));
+    });
+
+    List<Future<List<ProductoResponseDTO>>> lecturas =
+        lanzarConcurrentes(() -> productoService.obtenerPorCategoria(Categoria.HOGAR));
+
+    for (Future<List<ProductoResponseDTO>> lectura : lecturas) {
+      assertEquals(2, lectura.get(10, TimeUnit.SECONDS).size());
+    }
+    assertEquals(1, consultas.get());
+  }
+
+  @Test
+  void elErrorDeLaConsultaSePropagaATodosLosQueEsperan() throws Exception {
+    when(productoRepository.findById(4L)).thenAnswer(invocacion -> {
+      consultas.incrementAndGet();
+      liberar.await(10, TimeUnit.SECONDS);
+      return Optional.empty();
+    });
+
+    List<Future<ProductoResponseDTO>> lecturas = lanzarConcurrentes(() -> productoService.obtenerPorId(4L));
+
+    for (Future<ProductoResponseDTO> lectura : lecturas) {
+      ExecutionException error = assertThrows(ExecutionException.class, () -> lectura.get(10, TimeUnit.SECONDS));
+      assertInstanceOf(ProductoNoEncontradoException.class, error.getCause());
+    }
+    assertEquals(1, consultas.get());
+  }
+
+  @Test
+  void quienEsperaMasDeLoPermitidoRecibeCargaDemorada() throws Exception {
+    CountDownLatch enConsulta = new CountDownLatch(1);
+    when(productoRepository.findById(5L)).thenAnswer(invocacion -> {
+      consultas.incrementAndGet();
+      enConsulta.countDown();
+      liberar.await(10, TimeUnit.SECONDS);
+      return Optional.of(producto(5L, Categoria.ROPA));
+    });
+
+    Future<ProductoResponseDTO> primera = executor.submit(() -> productoService.obtenerPorId(5L));
+    assertTrue(enConsulta.await(10, TimeUnit.SECONDS));
+
+    assertThrows(CargaDemoradaException.class, () -> productoService.obtenerPorId(5L));
+
+    liberar.countDown();
+    assertEquals(5L, primera.get(10, TimeUnit.SECONDS).getId());
+    assertEquals(1, consultas.get());
+  }
+
+  @Test
+  void quienLlegaDespuesDeUnaModificacionNoReutilizaLaCargaIniciadaAntes() throws Exception {
+    CountDownLatch enConsulta = new CountDownLatch(1);
+    when(productoRepository.findById(6L)).thenAnswer(invocacion -> {
+      if (consultas.incrementAndGet() == 1) {
+        enConsulta.countDown();
+        liberar.await(10, TimeUnit.SECONDS);
+        return Optional.of(producto(6L, Categoria.DEPORTES));
+      }
+      Producto modificado = producto(6L, Categoria.DEPORTES);
+      modificado.setNombre("Producto 6 modificado");
+      return Optional.of(modificado);
+    });
+
+    Future<ProductoResponseDTO> anterior = executor.submit(() -> productoService.obtenerPorId(6L));
+    assertTrue(enConsulta.await(10, TimeUnit.SECONDS));
+
+    ProductoResponseDTO version = ProductoResponseDTO.builder()
+        .id(6L).nombre("Producto 6 modificado").descripcion("").precio(1000.0).stock(10).categoria(Categoria.DEPORTES)
+        .build();
+    eventPublisher.publishEvent(ProductoModificadoEvent.actualizado(version, version));
+
+    assertEquals("Producto 6 modificado", productoService.obtenerPorId(6L).getNombre());
+    assertEquals(2, consultas.get());
+
+    liberar.countDown();
+    assertEquals("Producto 6", anterior.get(10, TimeUnit.SECONDS).getNombre());
+  }
+
+  private <T> List<Future<T>> lanzarConcurrentes(Callable<T> lectura) throws InterruptedException {
+    double compartidasAntes = compartidas();
+    List<Future<T>> lecturas = new ArrayList<>();
+    for (int i = 0; i < HILOS; i++) {
+      lecturas.add(executor.submit(lectura));
+    }
+
+    long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (compartidas() - compartidasAntes < HILOS - 1 && System.nanoTime() < limite) {
+      Thread.sleep(5);
+    }
+    assertEquals(HILOS - 1, compartidas() - compartidasAntes);
+
+    liberar.countDown();
+    return lecturas;
+  }
+
+  private double compartidas() {
+    return meterRegistry.get("productos.cargas").tag("resultado", "compartida").functionCounter().count();
+  }
+
+  private static Producto producto(Long id, Categoria categoria) {
+    return Producto.builder()
+        .id(id)
+        .nombre("Producto " + id)
+        .descripcion("Producto de prueba para lecturas compartidas")
+        .precio(1000.0)
+        .stock(10)
+        .categoria(categoria)
+        .version(0L)
+        .build();
+  }
+}
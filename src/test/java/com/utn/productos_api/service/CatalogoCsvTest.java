@@ -0,0 +1,36 @@
+package com.utn.productos_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CatalogoCsvTest {
+
+  @Test
+  void leeUnRegistroConComillasYComasEscapadas() throws IOException {
+    BufferedReader lector = lector("1,\"Mouse, \"\"inalámbrico\"\"\",,25.5,3,ELECTRONICA\r\n");
+
+    assertThat(CatalogoCsv.leerRegistro(lector))
+        .containsExactly("1", "Mouse, \"inalámbrico\"", "", "25.5", "3", "ELECTRONICA");
+    assertThat(CatalogoCsv.leerRegistro(lector)).isNull();
+  }
+
+  @Test
+  void dejaDeAcumularCamposCuandoElRegistroSuperaLasColumnas() throws IOException {
+    BufferedReader lector = lector("1,a,b,2,3,ELECTRONICA" + ",x".repeat(100_000) + "\n2,c,d,4,5,HOGAR\n");
+
+    List<String> excedido = CatalogoCsv.leerRegistro(lector);
+
+    assertThat(excedido).hasSize(CatalogoCsv.COLUMNAS.size() + 1);
+    assertThat(excedido.get(CatalogoCsv.COLUMNAS.size())).isEmpty();
+    assertThat(CatalogoCsv.leerRegistro(lector)).containsExactly("2", "c", "d", "4", "5", "HOGAR");
+  }
+
+  private static BufferedReader lector(String contenido) {
+    return new BufferedReader(new StringReader(contenido));
+  }
+}
@@ -0,0 +1,101 @@
+package com.utn.productos_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.utn.productos_api.ProductosDePrueba;
+import com.utn.productos_api.exceptions.StockInsuficienteException;
+import com.utn.productos_api.model.Categoria;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ReservaStockConcurrenciaTest {
+
+  private static final int HILOS = 32;
+  private static final int OPERACIONES_POR_HILO = 50;
+
+  @Autowired
+  private ProductoService productoService;
+
+  @Test
+  void reservasConcurrentesNoPierdenActualizacionesNiDejanStockNegativo() throws Exception {
+    int stockInicial = 1000;
+    Long id = crearProducto(stockInicial);
+    AtomicInteger reservadas = new AtomicInteger();
+    AtomicInteger rechazadas = new AtomicInteger();
+
+    ejecutarEnParalelo(() -> {
+      try {
+        productoService.reservarStock(id, 1);
+        reservadas.incrementAndGet();
+      } catch (StockInsuficienteException e) {
+        rechazadas.incrementAndGet();
+      }
+    });
+
+    assertEquals(stockInicial, reservadas.get());
+    assertEquals(HILOS * OPERACIONES_POR_HILO - stockInicial, rechazadas.get());
+    assertEquals(0, productoService.obtenerPorId(id).getStock());
+  }
+
+  @Test
+  void reservasYLiberacionesConcurrentesConservanElStock() throws Exception {
+    int stockInicial = 100;
+    Long id = crearProducto(stockInicial);
+
+    ejecutarEnParalelo(() -> {
+      productoService.reservarStock(id, 1);
+      productoService.liberarStock(id, 1);
+    });
+
+    assertEquals(stockInicial, productoService.obtenerPorId(id).getStock());
+  }
+
+  @Test
+  void reservaMayorAlStockDisponibleEsRechazada() {
+    Long id = crearProducto(5);
+
+    assertThrows(StockInsuficienteException.class, () -> productoService.reservarStock(id, 6));
+    assertEquals(5, productoService.obtenerPorId(id).getStock());
+  }
+
+  private Long crearProducto(int stock) {
+    return productoService.crearProducto(ProductosDePrueba.producto("Zapatillas Running", Categoria.DEPORTES, stock))
+        .getId();
+  }
+
+  private void ejecutarEnParalelo(Runnable operacion) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+    CountDownLatch largada = new CountDownLatch(1);
+    List<Future<?>> tareas = new ArrayList<>();
+
+    try {
+      for (int i = 0; i < HILOS; i++) {
+        tareas.add(executor.submit(() -> {
+          largada.await();
+          for (int j = 0; j < OPERACIONES_POR_HILO; j++) {
+            operacion.run();
+          }
+          return null;
+        }));
+      }
+
+      largada.countDown();
+      for (Future<?> tarea : tareas) {
+        tarea.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.utn.productos_api.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.utn.productos_api.ProductosDePrueba;
+import com.utn.productos_api.cache.ProductoCache;
+import com.utn.productos_api.cache.VersionesCatalogo;
+import com.utn.productos_api.catalogo.CatalogoColumnar;
+import com.utn.productos_api.catalogo.CatalogoEnMemoria;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.estadisticas.EstadisticasCatalogo;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.service.ProductoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:snapshot",
+    "productos.snapshot.archivo=target/snapshot-test/productos.csv",
+    "productos.catalogo-memoria.enabled=true",
+    "productos.catalogo-memoria.intervalo-ms=3600000",
+    "productos.estadisticas.intervalo-verificacion-ms=3600000"
+})
+class SnapshotCatalogoTest {
+
+  @Autowired
+  private SnapshotCatalogo snapshotCatalogo;
+
+  @Autowired
+  private ProductoService productoService;
+
+  @Autowired
+  private CatalogoEnMemoria catalogoEnMemoria;
+
+  @Autowired
+  private EstadisticasCatalogo estadisticasCatalogo;
+
+  @Autowired
+  private VersionesCatalogo versionesCatalogo;
+
+  @Autowired
+  private ProductoCache productoCache;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void losComponentesQueLeyeronLaTablaVaciaVenLosProductosImportados() {
+    ProductoResponseDTO creado = productoService.crearProducto(
+        ProductosDePrueba.producto("Pava eléctrica", Categoria.HOGAR, 7));
+    productoService.obtenerPorId(creado.getId());
+    snapshotCatalogo.exportar();
+    jdbcTemplate.update("delete from producto");
+
+    estadisticasCatalogo.verificar();
+    CatalogoColumnar vacio = catalogoEnMemoria.reconstruir();
+    String etagAnterior = versionesCatalogo.etagCategoria(Categoria.HOGAR);
+
+    snapshotCatalogo.importar();
+
+    CatalogoColumnar importado = catalogoEnMemoria.snapshot().orElseThrow();
+    assertThat(catalogoEnMemoria.vigente(vacio, creado.getId())).isFalse();
+    assertThat(catalogoEnMemoria.vigente(importado, creado.getId())).isTrue();
+    assertThat(importado.filas()).isEqualTo(1);
+    assertThat(estadisticasCatalogo.obtener(Categoria.HOGAR).getCantidad()).isEqualTo(1);
+    assertThat(versionesCatalogo.etagCategoria(Categoria.HOGAR)).isNotEqualTo(etagAnterior);
+    assertThat(productoCache.buscarPorId(creado.getId())).isEmpty();
+  }
+}
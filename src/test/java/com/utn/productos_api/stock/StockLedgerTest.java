@@ -0,0 +1,150 @@
+package com.utn.productos_api.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.utn.productos_api.ProductosDePrueba;
+import com.utn.productos_api.dto.ProductoResponseDTO;
+import com.utn.productos_api.events.ProductoModificadoEvent;
+import com.utn.productos_api.events.TipoModificacion;
+import com.utn.productos_api.mapper.ProductoMapper;
+import com.utn.productos_api.model.Categoria;
+import com.utn.productos_api.repository.EventoOutboxRepository;
+import com.utn.productos_api.repository.ProductoRepository;
+import com.utn.productos_api.service.ProductoService;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:stock-ledger")
+class StockLedgerTest {
+
+  @TempDir
+  Path directorio;
+
+  @Autowired
+  private ProductoService productoService;
+
+  @Autowired
+  private ProductoRepository productoRepository;
+
+  @Autowired
+  private EventoOutboxRepository eventoOutboxRepository;
+
+  @Autowired
+  private ProductoMapper mapper;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @BeforeEach
+  void limpiar() {
+    jdbcTemplate.update("delete from segmento_stock_aplicado");
+  }
+
+  @Test
+  void alReiniciarSeReproducenLosMovimientosQueNoLlegaronALaBase() {
+    Long id = crear("Auriculares inalámbricos", 10);
+    nuevoLedger().reservar(id, 3);
+
+    nuevoLedger();
+
+    assertThat(stockPersistido(id)).isEqualTo(7);
+  }
+
+  @Test
+  void unSegmentoYaVolcadoNoSeVuelveAAplicarAlReiniciar() throws Exception {
+    Long id = crear("Teclado mecánico", 10);
+    StockLedger ledger = nuevoLedger();
+    ledger.reservar(id, 2);
+
+    Path segmento = unicoSegmento();
+    byte[] contenido = Files.readAllBytes(segmento);
+    ledger.flush();
+    Files.write(segmento, contenido);
+
+    nuevoLedger();
+
+    assertThat(stockPersistido(id)).isEqualTo(8);
+  }
+
+  @Test
+  void losMovimientosAnterioresAUnaModificacionNoSeReaplicanAlReiniciar() {
+    Long id = crear("Monitor curvo", 10);
+    nuevoLedger().reservar(id, 4);
+
+    productoService.actualizarProducto(id, ProductosDePrueba.producto("Monitor curvo 27", Categoria.ELECTRONICA, 50));
+    nuevoLedger();
+
+    assertThat(stockPersistido(id)).isEqualTo(50);
+  }
+
+  @Test
+  void unaModificacionConfirmadaDuranteElVolcadoNoSePierde() {
+    Long id = crear("Silla gamer", 10);
+    StockLedger ledger = nuevoLedger();
+    ledger.reservar(id, 4);
+
+    ProductoResponseDTO anterior = productoService.obtenerPorId(id);
+    ProductoResponseDTO actualizado = productoService.actualizarProducto(id,
+        ProductosDePrueba.producto("Silla gamer reclinable", Categoria.HOGAR, 50));
+    ledger.flush();
+    ledger.descartarProducto(ProductoModificadoEvent.actualizado(anterior, actualizado));
+
+    assertThat(stockPersistido(id)).isEqualTo(50);
+    assertThat(ledger.stockActual(id, 50)).isEqualTo(50);
+    assertThat(ledger.reservar(id, 5)).isEqualTo(45);
+  }
+
+  @Test
+  void cadaVolcadoPublicaElCambioDeStockDeLosProductos() {
+    Long id = crear("Parlante portátil", 10);
+    StockLedger ledger = nuevoLedger();
+    ledger.reservar(id, 1);
+    ledger.reservar(id, 2);
+
+    ledger.flush();
+
+    assertThat(stockPersistido(id)).isEqualTo(7);
+    assertThat(eventoOutboxRepository.findAll())
+        .anyMatch(evento -> evento.getProductoId().equals(id) && evento.getTipo() == TipoModificacion.STOCK_ACTUALIZADO);
+    assertThat(ledger.stockActual(id, 7)).isEqualTo(7);
+  }
+
+  private StockLedger nuevoLedger() {
+    StockLedger ledger = new StockLedger(true, directorio, productoRepository, mapper, jdbcTemplate,
+        transactionManager, eventPublisher);
+    ledger.reproducirDiario();
+    return ledger;
+  }
+
+  private Long crear(String nombre, int stock) {
+    return productoService.crearProducto(ProductosDePrueba.producto(nombre, Categoria.ELECTRONICA, stock)).getId();
+  }
+
+  private int stockPersistido(Long id) {
+    return productoRepository.findById(id).orElseThrow().getStock();
+  }
+
+  private Path unicoSegmento() throws Exception {
+    try (Stream<Path> archivos = Files.list(directorio)) {
+      List<Path> segmentos = archivos.toList();
+      assertThat(segmentos).hasSize(1);
+      return segmentos.get(0);
+    }
+  }
+}